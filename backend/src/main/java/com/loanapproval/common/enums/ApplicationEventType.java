@@ -0,0 +1,10 @@
+package com.loanapproval.common.enums;
+
+public enum ApplicationEventType {
+    CREATED,
+    SCORED,
+    APPROVED,
+    REJECTED,
+    MANUAL_REVIEW,
+    DELETED
+}
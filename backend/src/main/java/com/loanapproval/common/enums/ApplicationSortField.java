@@ -0,0 +1,40 @@
+package com.loanapproval.common.enums;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Fields GET /applications may sort by. Each one has a composite (field, id) index on
+ * loan_applications so ordered pages never fall back to a full sort.
+ */
+public enum ApplicationSortField {
+    SUBMITTED_AT("submittedAt"),
+    LOAN_AMOUNT("loanAmount"),
+    RISK_SCORE("riskScore");
+
+    private final String property;
+
+    ApplicationSortField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Resolve a client supplied sortBy value, or null if it is not in the catalog
+     */
+    public static ApplicationSortField fromProperty(String property) {
+        for (ApplicationSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    public static String allowedProperties() {
+        return Arrays.stream(values()).map(ApplicationSortField::getProperty).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,7 @@
+package com.loanapproval.common.enums;
+
+public enum DashboardScope {
+    OWN,
+    ASSIGNED,
+    ALL
+}
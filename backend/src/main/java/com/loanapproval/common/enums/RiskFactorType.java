@@ -0,0 +1,25 @@
+package com.loanapproval.common.enums;
+
+public enum RiskFactorType {
+    CREDIT_SCORE("Credit Score", "Applicant's credit score - higher is better"),
+    DEBT_TO_INCOME("Debt-to-Income Ratio", "Percentage of income needed to cover existing debts"),
+    EMPLOYMENT_STABILITY("Employment Stability", "Years at current employment - longer is better"),
+    LOAN_TO_INCOME("Loan-to-Income Ratio", "Loan amount relative to annual income - lower is better"),
+    DOCUMENT_VERIFICATION("Document Verification", "Percentage of documents verified");
+
+    private final String displayName;
+    private final String description;
+
+    RiskFactorType(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,7 @@
+package com.loanapproval.common.enums;
+
+public enum ScoringStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.loanapproval.common.enums;
+
+public enum TrendDimension {
+    LOAN_TYPE,
+    EMPLOYMENT_TYPE
+}
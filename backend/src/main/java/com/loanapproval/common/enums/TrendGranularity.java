@@ -0,0 +1,10 @@
+package com.loanapproval.common.enums;
+
+/**
+ * Bucket size of dashboard trends. HOUR and DAY buckets are stored as rollups; WEEK is summed from DAY rollups.
+ */
+public enum TrendGranularity {
+    HOUR,
+    DAY,
+    WEEK
+}
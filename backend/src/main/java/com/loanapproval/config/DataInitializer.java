@@ -3,6 +3,7 @@ package com.loanapproval.config;
 import com.loanapproval.common.enums.UserRole;
 import com.loanapproval.entity.User;
 import com.loanapproval.repository.UserRepository;
+import com.loanapproval.service.ScoringModelService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -16,10 +17,17 @@ public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ScoringModelService scoringModelService;
 
     @Override
     public void run(String... args) throws Exception {
         initializeUsers();
+        initializeScoringModel();
+    }
+
+    private void initializeScoringModel() {
+        scoringModelService.seedDefaultModel();
+        scoringModelService.refresh();
     }
 
     private void initializeUsers() {
@@ -0,0 +1,48 @@
+package com.loanapproval.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gives the H2 replica of the dev replica profile the same tables as the primary, which Hibernate has
+ * just created. Nothing replicates between the two in-memory databases: rows committed later exist on
+ * the primary only, so a read served by the replica shows what unbounded replication lag looks like.
+ * Created by ReplicaDataSourceConfig after the EntityManagerFactory, so the schema exists when copied.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class H2ReplicaSchemaInitializer {
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+
+    @PostConstruct
+    void copySchema() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (Connection primary = primaryDataSource.getConnection();
+             Statement statement = primary.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+            while (script.next()) {
+                statements.add(script.getString(1));
+            }
+        }
+
+        try (Connection replica = replicaDataSource.getConnection();
+             Statement statement = replica.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+        log.info("Copied the primary schema to the replica ({} statements)", statements.size());
+    }
+}
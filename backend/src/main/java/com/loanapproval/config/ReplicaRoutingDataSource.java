@@ -0,0 +1,110 @@
+package com.loanapproval.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of a transaction is only
+ * known once it has begun, so the target connection has to be fetched at the first statement.
+ * A user whose own write committed within the read-your-writes window keeps reading from the
+ * primary, so they see their change even while the replica lags.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_SCOPE = new ThreadLocal<>();
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long readYourWritesWindowNanos;
+    private final Map<String, Long> lastWriteByPrincipal = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(long readYourWritesWindowMillis) {
+        this.readYourWritesWindowNanos = readYourWritesWindowMillis * 1_000_000L;
+    }
+
+    /**
+     * Run a read on the primary even inside a read-only transaction, for results that must not lag
+     * behind a commit. A no-op when no replica is configured.
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        if (PRIMARY_SCOPE.get() != null) {
+            return read.get();
+        }
+        PRIMARY_SCOPE.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_SCOPE.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = determineTarget();
+        log.debug("Routing connection to {}", target);
+        return target;
+    }
+
+    private Target determineTarget() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+
+        String principal = getPrincipal();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (principal != null && readYourWritesWindowNanos > 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(principal);
+                    }
+                });
+            }
+            return Target.PRIMARY;
+        }
+
+        if (PRIMARY_SCOPE.get() != null || wroteRecently(principal)) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    private void recordWrite(String principal) {
+        long now = System.nanoTime();
+        lastWriteByPrincipal.put(principal, now);
+        if (lastWriteByPrincipal.size() > PURGE_THRESHOLD) {
+            lastWriteByPrincipal.values().removeIf(writtenAt -> now - writtenAt > readYourWritesWindowNanos);
+        }
+    }
+
+    private boolean wroteRecently(String principal) {
+        if (principal == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteByPrincipal.get(principal);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt <= readYourWritesWindowNanos) {
+            return true;
+        }
+        lastWriteByPrincipal.remove(principal, writtenAt);
+        return false;
+    }
+
+    private static String getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.loanapproval.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves each entity's id sequence past the highest id already stored.
+ * Tables that were filled while ids came from IDENTITY columns would otherwise hand out
+ * colliding ids once the pooled sequences start at 1. Runs before any data is inserted and
+ * is a no-op once the sequences are ahead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceAligner {
+
+    /**
+     * Must match the allocationSize of the entities' @SequenceGenerator
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, String> SEQUENCES_BY_TABLE = Map.of(
+            "users", "users_seq",
+            "loan_applications", "loan_applications_seq",
+            "loan_documents", "loan_documents_seq",
+            "risk_factors", "risk_factors_seq",
+            "audit_logs", "audit_logs_seq",
+            "officer_notes", "officer_notes_seq",
+            "scoring_models", "scoring_models_seq"
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignSequences() {
+        // The schema is created or updated while the EntityManagerFactory starts, so tables and sequences exist here
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+
+        SEQUENCES_BY_TABLE.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) {
+                return;
+            }
+            // A pooled optimizer hands out the block (value - ALLOCATION_SIZE, value]
+            Long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+            if (next != null && next - ALLOCATION_SIZE >= maxId) {
+                return;
+            }
+            long restartWith = maxId + ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+            log.info("Sequence {} restarted at {} to stay above existing ids of {}", sequence, restartWith, table);
+        });
+    }
+}
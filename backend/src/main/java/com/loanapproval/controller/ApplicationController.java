@@ -1,23 +1,47 @@
 package com.loanapproval.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanapproval.common.enums.ApplicationSortField;
+import com.loanapproval.common.enums.ScoringStatus;
 import com.loanapproval.common.enums.UserRole;
+import com.loanapproval.dto.ApplicationFilterDTO;
+import com.loanapproval.dto.BulkIngestSummaryDTO;
+import com.loanapproval.dto.CacheStatsDTO;
+import com.loanapproval.dto.CursorPageDTO;
+import com.loanapproval.dto.LoanApplicationPatchDTO;
 import com.loanapproval.dto.LoanApplicationRequestDTO;
 import com.loanapproval.dto.LoanApplicationResponseDTO;
+import com.loanapproval.dto.LoanApplicationSummaryDTO;
+import com.loanapproval.dto.RiskBatchRequestDTO;
+import com.loanapproval.exception.ValidationException;
+import com.loanapproval.service.ApplicationExportService;
+import com.loanapproval.service.BulkIngestionService;
 import com.loanapproval.service.LoanApplicationService;
+import com.loanapproval.service.RiskBatchScoringService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/applications")
@@ -26,6 +50,10 @@ import org.springframework.web.bind.annotation.*;
 public class ApplicationController {
 
     private final LoanApplicationService applicationService;
+    private final RiskBatchScoringService riskBatchScoringService;
+    private final BulkIngestionService bulkIngestionService;
+    private final ApplicationExportService applicationExportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('CUSTOMER', 'OFFICER', 'ADMIN')")
@@ -34,13 +62,17 @@ public class ApplicationController {
             @Valid @RequestBody LoanApplicationRequestDTO requestDTO,
             Authentication authentication) {
         LoanApplicationResponseDTO response = applicationService.createApplication(requestDTO, authentication.getName());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        // Accepted while the risk score is still being computed asynchronously
+        HttpStatus status = response.getScoringStatus() == ScoringStatus.IN_PROGRESS ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('CUSTOMER', 'OFFICER', 'ADMIN')")
-    @Operation(summary = "Get loan applications", description = "Retrieve list of loan applications with pagination")
-    public ResponseEntity<Page<LoanApplicationResponseDTO>> getApplications(
+    @Operation(summary = "Get loan applications",
+            description = "Retrieve list of loan applications with pagination, optionally filtered by status, type, ranges and officer")
+    public ResponseEntity<Page<LoanApplicationSummaryDTO>> getApplications(
+            @ParameterObject ApplicationFilterDTO filter,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "submittedAt") String sortBy,
@@ -48,24 +80,91 @@ public class ApplicationController {
             Authentication authentication) {
         
         UserRole userRole = getUserRole(authentication);
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<LoanApplicationResponseDTO> applications = applicationService.getApplications(
-                authentication.getName(), userRole, pageable);
+        ApplicationSortField sortField = ApplicationSortField.fromProperty(sortBy);
+        if (sortField == null) {
+            throw new ValidationException("Cannot sort by '" + sortBy + "'; allowed: " + ApplicationSortField.allowedProperties());
+        }
+        // id breaks ties so the order matches the (field, id) index and stays stable across pages
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField.getProperty()).and(Sort.by(direction, "id")));
+        Page<LoanApplicationSummaryDTO> applications = applicationService.getApplications(
+                authentication.getName(), userRole, filter, pageable);
         
         return ResponseEntity.ok(applications);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'OFFICER', 'ADMIN')")
+    @Operation(summary = "Get loan applications by cursor",
+            description = "Keyset pagination ordered by submission time; pass nextCursor from the previous page to continue")
+    public ResponseEntity<CursorPageDTO<LoanApplicationSummaryDTO>> getApplicationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
+
+        UserRole userRole = getUserRole(authentication);
+        CursorPageDTO<LoanApplicationSummaryDTO> applications = applicationService.getApplicationsByCursor(
+                authentication.getName(), userRole, cursor, size, direction, includeTotal);
+
+        return ResponseEntity.ok(applications);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Export applications",
+            description = "Stream every application matching the list filters as CSV or NDJSON, ordered by ID, "
+                    + "with the applicant's financials and the decision")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @ParameterObject ApplicationFilterDTO filter,
+            @RequestParam(defaultValue = ApplicationExportService.FORMAT_CSV) String format) {
+        ApplicationExportService.validateFormat(format);
+        boolean csv = ApplicationExportService.FORMAT_CSV.equals(format);
+
+        StreamingResponseBody body = out -> applicationExportService.export(filter, format, out);
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"applications." + format + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Search applications",
+            description = "Ranked search by partial applicant name, employer name or loan purpose; every term must match")
+    public ResponseEntity<Page<LoanApplicationSummaryDTO>> searchApplications(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(applicationService.searchApplications(q, page, size));
+    }
+
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get detail cache statistics", description = "Hit, miss and eviction counts of the application detail cache")
+    public ResponseEntity<CacheStatsDTO> getDetailCacheStats() {
+        return ResponseEntity.ok(applicationService.getDetailCacheStats());
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'OFFICER', 'ADMIN')")
     @Operation(summary = "Get application details", description = "Retrieve detailed information about a specific application")
     public ResponseEntity<LoanApplicationResponseDTO> getApplicationById(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
         
         UserRole userRole = getUserRole(authentication);
+        if (ifNoneMatch != null) {
+            // Answer revalidation from the version column alone
+            Long version = applicationService.getApplicationVersion(id, authentication.getName(), userRole);
+            if (ETags.matches(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ETags.of(version)).build();
+            }
+        }
         LoanApplicationResponseDTO application = applicationService.getApplicationById(id, authentication.getName(), userRole);
         
-        return ResponseEntity.ok(application);
+        return ResponseEntity.ok().eTag(ETags.of(application.getVersion())).body(application);
     }
 
     @GetMapping("/by-id/{applicationId}")
@@ -88,10 +187,28 @@ public class ApplicationController {
     public ResponseEntity<LoanApplicationResponseDTO> updateApplication(
             @PathVariable Long id,
             @Valid @RequestBody LoanApplicationRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
         
-        LoanApplicationResponseDTO response = applicationService.updateApplication(id, requestDTO, authentication.getName());
-        return ResponseEntity.ok(response);
+        LoanApplicationResponseDTO response = applicationService.updateApplication(
+                id, requestDTO, authentication.getName(), ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
+    }
+
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'OFFICER', 'ADMIN')")
+    @Operation(summary = "Patch application",
+            description = "Update only the supplied fields; risk factors are recomputed only where their inputs changed")
+    public ResponseEntity<LoanApplicationResponseDTO> patchApplication(
+            @PathVariable Long id,
+            @Valid @RequestBody LoanApplicationPatchDTO patchDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            Authentication authentication) {
+
+        UserRole userRole = getUserRole(authentication);
+        LoanApplicationResponseDTO response = applicationService.patchApplication(
+                id, patchDTO, authentication.getName(), userRole, ETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/{id}")
@@ -105,6 +222,45 @@ public class ApplicationController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/risk/batch")
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Batch risk scoring",
+            description = "Re-score stored applications by ID or score raw payloads (what-if), streaming one NDJSON result per item")
+    public ResponseEntity<StreamingResponseBody> scoreBatch(@Valid @RequestBody RiskBatchRequestDTO requestDTO) {
+        StreamingResponseBody body = out -> riskBatchScoringService.scoreBatch(requestDTO, result -> writeLine(out, result));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Bulk application intake",
+            description = "Create applications from an NDJSON body, streaming one result per record and a throughput summary last")
+    public ResponseEntity<StreamingResponseBody> ingestApplications(
+            HttpServletRequest request,
+            Authentication authentication) {
+        String userEmail = authentication.getName();
+        StreamingResponseBody body = out -> {
+            BulkIngestSummaryDTO summary = bulkIngestionService.ingest(
+                    request.getInputStream(), userEmail, result -> writeLine(out, result));
+            writeLine(out, summary);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     private UserRole getUserRole(Authentication authentication) {
         for (GrantedAuthority authority : authentication.getAuthorities()) {
             String role = authority.getAuthority().replace("ROLE_", "");
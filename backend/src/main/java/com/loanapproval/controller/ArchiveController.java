@@ -0,0 +1,27 @@
+package com.loanapproval.controller;
+
+import com.loanapproval.dto.ArchiveRunResultDTO;
+import com.loanapproval.service.ApplicationArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/archive")
+@RequiredArgsConstructor
+@Tag(name = "Archive", description = "Cold-storage archival of decided applications")
+public class ArchiveController {
+
+    private final ApplicationArchiveService applicationArchiveService;
+
+    @PostMapping("/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Run archival",
+            description = "Move applications approved or rejected more than retentionDays ago to the archive now")
+    public ResponseEntity<ArchiveRunResultDTO> runArchival(@RequestParam(defaultValue = "365") int retentionDays) {
+        return ResponseEntity.ok(applicationArchiveService.archiveDecidedApplications(retentionDays));
+    }
+}
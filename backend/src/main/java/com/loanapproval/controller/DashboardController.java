@@ -1,19 +1,32 @@
 package com.loanapproval.controller;
 
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.TrendDimension;
+import com.loanapproval.common.enums.TrendGranularity;
 import com.loanapproval.common.enums.UserRole;
 import com.loanapproval.dto.DashboardStatsDTO;
+import com.loanapproval.dto.DashboardTrendsDTO;
+import com.loanapproval.dto.ProcessingTimeStatsDTO;
 import com.loanapproval.service.DashboardService;
+import com.loanapproval.service.ProcessingTimeService;
+import com.loanapproval.service.TrendRollupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/dashboard")
 @RequiredArgsConstructor
@@ -21,16 +34,45 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final TrendRollupService trendRollupService;
+    private final ProcessingTimeService processingTimeService;
 
     @GetMapping("/stats")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'OFFICER', 'ADMIN')")
-    @Operation(summary = "Get dashboard statistics", description = "Retrieve dashboard statistics")
+    @Operation(summary = "Get dashboard statistics",
+            description = "Statistics of the caller's own applications for customers, of the applications assigned to "
+                    + "the caller for officers and of all applications for admins")
     public ResponseEntity<DashboardStatsDTO> getDashboardStats(Authentication authentication) {
         UserRole userRole = getUserRole(authentication);
-        DashboardStatsDTO stats = dashboardService.getDashboardStats(userRole);
+        DashboardStatsDTO stats = dashboardService.getDashboardStats(userRole, authentication.getName());
         return ResponseEntity.ok(stats);
     }
 
+    @GetMapping("/trends")
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Get dashboard trends",
+            description = "Submissions, approval rate and average risk score per hour, day or week, read from the trend rollups. "
+                    + "Dates are inclusive; WEEK widens the range to whole weeks starting on Monday.")
+    public ResponseEntity<DashboardTrendsDTO> getDashboardTrends(
+            @RequestParam(defaultValue = "DAY") TrendGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) LoanType loanType,
+            @RequestParam(required = false) EmploymentType employmentType,
+            @RequestParam(required = false) Set<TrendDimension> groupBy) {
+        return ResponseEntity.ok(trendRollupService.getTrends(granularity, from, to, loanType, employmentType,
+                groupBy != null ? groupBy : Set.of()));
+    }
+
+    @GetMapping("/processing-time")
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Get processing time percentiles",
+            description = "Median, 90th and 99th percentile hours from submission to approval or rejection, overall and per loan type, "
+                    + "across all instances. Decisions of the last flush interval may be missing.")
+    public ResponseEntity<ProcessingTimeStatsDTO> getProcessingTimes() {
+        return ResponseEntity.ok(processingTimeService.getProcessingTimes());
+    }
+
     private UserRole getUserRole(Authentication authentication) {
         for (GrantedAuthority authority : authentication.getAuthorities()) {
             String role = authority.getAuthority().replace("ROLE_", "");
@@ -2,12 +2,17 @@ package com.loanapproval.controller;
 
 import com.loanapproval.dto.ApprovalRequestDTO;
 import com.loanapproval.dto.ManualReviewRequestDTO;
+import com.loanapproval.dto.OfficerNoteDTO;
 import com.loanapproval.dto.RejectionRequestDTO;
 import com.loanapproval.service.DecisionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -29,9 +34,11 @@ public class DecisionController {
     public ResponseEntity<Void> approveApplication(
             @PathVariable Long id,
             @RequestBody(required = false) ApprovalRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
         
-        decisionService.approveApplication(id, requestDTO != null ? requestDTO : new ApprovalRequestDTO(), authentication.getName());
+        decisionService.approveApplication(id, requestDTO != null ? requestDTO : new ApprovalRequestDTO(), authentication.getName(),
+                ETags.parseIfMatch(ifMatch));
         return ResponseEntity.ok().build();
     }
 
@@ -41,9 +48,10 @@ public class DecisionController {
     public ResponseEntity<Void> rejectApplication(
             @PathVariable Long id,
             @Valid @RequestBody RejectionRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
         
-        decisionService.rejectApplication(id, requestDTO, authentication.getName());
+        decisionService.rejectApplication(id, requestDTO, authentication.getName(), ETags.parseIfMatch(ifMatch));
         return ResponseEntity.ok().build();
     }
 
@@ -53,23 +61,35 @@ public class DecisionController {
     public ResponseEntity<Void> requestManualReview(
             @PathVariable Long id,
             @Valid @RequestBody ManualReviewRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             Authentication authentication) {
         
-        decisionService.requestManualReview(id, requestDTO, authentication.getName());
+        decisionService.requestManualReview(id, requestDTO, authentication.getName(), ETags.parseIfMatch(ifMatch));
         return ResponseEntity.ok().build();
     }
 
     @PostMapping("/{id}/notes")
     @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
-    @Operation(summary = "Add officer notes", description = "Add officer notes to an application")
-    public ResponseEntity<Void> addOfficerNotes(
+    @Operation(summary = "Add officer note", description = "Append a note to an application; the application itself is not modified")
+    public ResponseEntity<OfficerNoteDTO> addOfficerNotes(
             @PathVariable Long id,
             @RequestBody Map<String, String> request,
             Authentication authentication) {
         
         String notes = request.get("notes");
-        decisionService.addOfficerNotes(id, notes, authentication.getName());
-        return ResponseEntity.ok().build();
+        OfficerNoteDTO note = decisionService.addOfficerNote(id, notes, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(note);
+    }
+
+    @GetMapping("/{id}/notes")
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Get officer notes", description = "Page through the notes of an application, newest first by default")
+    public ResponseEntity<Page<OfficerNoteDTO>> getOfficerNotes(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
+        return ResponseEntity.ok(decisionService.getOfficerNotes(id, page, size, direction));
     }
 
     @GetMapping("/{id}/audit-log")
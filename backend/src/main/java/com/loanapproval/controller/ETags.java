@@ -0,0 +1,51 @@
+package com.loanapproval.controller;
+
+import com.loanapproval.exception.ValidationException;
+
+/**
+ * Strong ETags derived from the @Version of a loan application
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header matches the current version
+     */
+    static boolean matches(String ifNoneMatch, Long version) {
+        if (ifNoneMatch == null || version == null) {
+            return false;
+        }
+        String current = of(version);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*") || candidate.equals(current) || candidate.equals("W/" + current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version a write is conditioned on, or null when If-Match is absent or "*"
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/") || tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new ValidationException("If-Match must be a single strong ETag");
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new ValidationException("If-Match must be a single strong ETag");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.loanapproval.controller;
+
+import com.loanapproval.common.enums.UserRole;
+import com.loanapproval.service.ApplicationEventBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+@Tag(name = "Events", description = "Live application and dashboard updates")
+public class EventController {
+
+    private final ApplicationEventBroadcaster applicationEventBroadcaster;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'OFFICER', 'ADMIN')")
+    @Operation(summary = "Subscribe to live events",
+            description = "Server-Sent Events stream of 'application' lifecycle events and, for admins, "
+                    + "'dashboard' deltas of the global statistics. Customers only receive events about their own applications. "
+                    + "Missed events are not replayed; reload over REST after reconnecting.")
+    public SseEmitter subscribe(Authentication authentication) {
+        return applicationEventBroadcaster.subscribe(authentication.getName(), getUserRole(authentication));
+    }
+
+    private UserRole getUserRole(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String role = authority.getAuthority().replace("ROLE_", "");
+            return UserRole.valueOf(role);
+        }
+        throw new IllegalArgumentException("Invalid user role");
+    }
+}
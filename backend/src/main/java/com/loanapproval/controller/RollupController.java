@@ -0,0 +1,32 @@
+package com.loanapproval.controller;
+
+import com.loanapproval.dto.RollupRebuildResultDTO;
+import com.loanapproval.service.TrendRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/admin/rollups")
+@RequiredArgsConstructor
+@Tag(name = "Rollups", description = "Maintenance of the dashboard trend rollups")
+public class RollupController {
+
+    private final TrendRollupService trendRollupService;
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild trend rollups",
+            description = "Recompute the hourly and daily rollups of the given days (inclusive) from live and archived applications")
+    public ResponseEntity<RollupRebuildResultDTO> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(trendRollupService.rebuild(from, to));
+    }
+}
@@ -0,0 +1,71 @@
+package com.loanapproval.controller;
+
+import com.loanapproval.dto.CacheStatsDTO;
+import com.loanapproval.dto.ScoringModelDTO;
+import com.loanapproval.dto.ScoringModelRequestDTO;
+import com.loanapproval.service.RiskScoringService;
+import com.loanapproval.service.ScoringModelService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/scoring-models")
+@RequiredArgsConstructor
+@Tag(name = "Scoring Models", description = "Versioned risk scoring model management endpoints")
+public class ScoringModelController {
+
+    private final ScoringModelService scoringModelService;
+    private final RiskScoringService riskScoringService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "List scoring models", description = "List all scoring model versions, newest first")
+    public ResponseEntity<List<ScoringModelDTO>> getModels() {
+        return ResponseEntity.ok(scoringModelService.getModels());
+    }
+
+    @GetMapping("/active")
+    @PreAuthorize("hasAnyRole('OFFICER', 'ADMIN')")
+    @Operation(summary = "Get active scoring model", description = "Retrieve the scoring model version currently used for new scores")
+    public ResponseEntity<ScoringModelDTO> getActiveModel() {
+        return ResponseEntity.ok(scoringModelService.getActiveModel());
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create scoring model", description = "Create a new scoring model version, optionally making it live")
+    public ResponseEntity<ScoringModelDTO> createModel(
+            @Valid @RequestBody ScoringModelRequestDTO requestDTO,
+            @RequestParam(defaultValue = "false") boolean activate,
+            Authentication authentication) {
+
+        ScoringModelDTO model = scoringModelService.createModel(requestDTO, activate, authentication.getName());
+        return ResponseEntity.status(HttpStatus.CREATED).body(model);
+    }
+
+    @PostMapping("/{version}/activate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Activate scoring model", description = "Make an existing scoring model version live without a restart")
+    public ResponseEntity<ScoringModelDTO> activateModel(
+            @PathVariable Integer version,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(scoringModelService.activateModel(version, authentication.getName()));
+    }
+
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get score cache statistics", description = "Hit, miss and eviction counts of the risk score memo")
+    public ResponseEntity<CacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(riskScoringService.getCacheStats());
+    }
+}
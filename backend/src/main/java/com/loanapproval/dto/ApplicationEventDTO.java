@@ -0,0 +1,38 @@
+package com.loanapproval.dto;
+
+import com.loanapproval.common.enums.ApplicationEventType;
+import com.loanapproval.common.enums.LoanStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ApplicationEvent", description = "Lifecycle event of one application, pushed over /events")
+public class ApplicationEventDTO {
+
+    @Schema(description = "What happened")
+    private ApplicationEventType type;
+
+    @Schema(description = "Application ID")
+    private Long id;
+
+    @Schema(description = "Application number")
+    private String applicationId;
+
+    @Schema(description = "Status after the event")
+    private LoanStatus status;
+
+    @Schema(description = "Risk score after the event")
+    private BigDecimal riskScore;
+
+    @Schema(description = "When the change committed")
+    private LocalDateTime occurredAt;
+}
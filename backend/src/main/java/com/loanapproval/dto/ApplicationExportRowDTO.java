@@ -0,0 +1,102 @@
+package com.loanapproval.dto;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.ScoringStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Export row for the application book: the applicant's financials and the decision, without notes,
+ * AI text or risk factors. Filled by a constructor expression in LoanApplicationSearchRepositoryImpl,
+ * so the field order must match it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ApplicationExportRow", description = "Loan application export row with financials and decision")
+public class ApplicationExportRowDTO {
+
+    @Schema(description = "Application database ID")
+    private Long id;
+
+    @Schema(description = "Unique application ID")
+    private String applicationId;
+
+    @Schema(description = "Applicant full name")
+    private String applicantName;
+
+    @Schema(description = "Applicant email")
+    private String email;
+
+    @Schema(description = "Loan type")
+    private LoanType loanType;
+
+    @Schema(description = "Loan amount")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Loan term in months")
+    private Integer loanTerm;
+
+    @Schema(description = "Loan purpose")
+    private String purpose;
+
+    @Schema(description = "Annual income")
+    private BigDecimal annualIncome;
+
+    @Schema(description = "Monthly expenses")
+    private BigDecimal monthlyExpenses;
+
+    @Schema(description = "Existing debts")
+    private BigDecimal existingDebts;
+
+    @Schema(description = "Credit score")
+    private Integer creditScore;
+
+    @Schema(description = "Employment type")
+    private EmploymentType employmentType;
+
+    @Schema(description = "Employment duration in years")
+    private Integer employmentDuration;
+
+    @Schema(description = "Employer name")
+    private String employerName;
+
+    @Schema(description = "Debt-to-income ratio")
+    private BigDecimal dtiRatio;
+
+    @Schema(description = "Loan-to-income ratio")
+    private BigDecimal ltiRatio;
+
+    @Schema(description = "Overall risk score (0-100)")
+    private BigDecimal riskScore;
+
+    @Schema(description = "Scoring model version that produced the risk score")
+    private Integer riskModelVersion;
+
+    @Schema(description = "Whether the risk score is still being computed")
+    private ScoringStatus scoringStatus;
+
+    @Schema(description = "Application status")
+    private LoanStatus status;
+
+    @Schema(description = "Submission timestamp")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "Review timestamp")
+    private LocalDateTime reviewedAt;
+
+    @Schema(description = "Who made the decision")
+    private String reviewedBy;
+
+    @Schema(description = "Assigned officer")
+    private String assignedOfficer;
+}
@@ -0,0 +1,58 @@
+package com.loanapproval.dto;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for application listings, bound from query parameters. Unset fields do not filter.
+ * Ranges are inclusive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ApplicationFilter", description = "Application listing filters")
+public class ApplicationFilterDTO {
+
+    @Schema(description = "Application status")
+    private LoanStatus status;
+
+    @Schema(description = "Loan type")
+    private LoanType loanType;
+
+    @Schema(description = "Employment type")
+    private EmploymentType employmentType;
+
+    @Schema(description = "Minimum loan amount")
+    private BigDecimal minAmount;
+
+    @Schema(description = "Maximum loan amount")
+    private BigDecimal maxAmount;
+
+    @Schema(description = "Minimum risk score")
+    private BigDecimal minRiskScore;
+
+    @Schema(description = "Maximum risk score")
+    private BigDecimal maxRiskScore;
+
+    @Schema(description = "Submitted at or after (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime submittedFrom;
+
+    @Schema(description = "Submitted at or before (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime submittedTo;
+
+    @Schema(description = "Assigned officer")
+    private String assignedOfficer;
+}
@@ -0,0 +1,29 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ArchiveRunResult", description = "Outcome of one archival run")
+public class ArchiveRunResultDTO {
+
+    @Schema(description = "Applications decided before this time were eligible")
+    private LocalDateTime cutoff;
+
+    @Schema(description = "Applications moved to the archive")
+    private int archived;
+
+    @Schema(description = "Batches committed")
+    private int batches;
+
+    @Schema(description = "Run time in milliseconds")
+    private long durationMs;
+}
@@ -0,0 +1,28 @@
+package com.loanapproval.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything archived for one application, stored compressed in archived_applications.payload
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedApplicationPayload {
+
+    private LoanApplicationResponseDTO application;
+
+    private List<LoanDocumentDTO> documents;
+
+    private List<RiskFactorDTO> riskFactorHistory;
+
+    private List<AuditLogDTO> auditLogs;
+
+    private List<OfficerNoteDTO> officerNotes;
+}
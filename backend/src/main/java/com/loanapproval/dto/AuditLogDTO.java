@@ -0,0 +1,35 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "AuditLog", description = "Audit log entry of an application")
+public class AuditLogDTO {
+
+    @Schema(description = "Audit log ID")
+    private Long id;
+
+    @Schema(description = "Action performed", example = "APPLICATION_APPROVED")
+    private String action;
+
+    @Schema(description = "Email of the user who performed the action")
+    private String performedBy;
+
+    @Schema(description = "What changed")
+    private String changes;
+
+    @Schema(description = "Notes")
+    private String notes;
+
+    @Schema(description = "When the action was performed")
+    private LocalDateTime createdAt;
+}
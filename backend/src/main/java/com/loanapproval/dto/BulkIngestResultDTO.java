@@ -0,0 +1,37 @@
+package com.loanapproval.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "BulkIngestResult", description = "Outcome for a single record of a bulk intake request")
+public class BulkIngestResultDTO {
+
+    @Schema(description = "1-based line number of the record in the request body")
+    private long line;
+
+    @Schema(description = "Whether the application was stored")
+    private boolean success;
+
+    @Schema(description = "Database ID of the created application")
+    private Long id;
+
+    @Schema(description = "Unique application ID of the created application")
+    private String applicationId;
+
+    @Schema(description = "Overall risk score (0-100)")
+    private BigDecimal riskScore;
+
+    @Schema(description = "Why the record was rejected")
+    private String error;
+}
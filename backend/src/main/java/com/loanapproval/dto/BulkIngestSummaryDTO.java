@@ -0,0 +1,30 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "BulkIngestSummary", description = "Final line of a bulk intake response")
+public class BulkIngestSummaryDTO {
+
+    @Schema(description = "Records read from the request body")
+    private long total;
+
+    @Schema(description = "Records stored as applications")
+    private long succeeded;
+
+    @Schema(description = "Records rejected")
+    private long failed;
+
+    @Schema(description = "Wall-clock time spent on the request in milliseconds")
+    private long elapsedMs;
+
+    @Schema(description = "Sustained throughput: records read per second of elapsed time")
+    private double recordsPerSecond;
+}
@@ -0,0 +1,33 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "CacheStats", description = "In-process cache statistics since startup")
+public class CacheStatsDTO {
+
+    @Schema(description = "Cached entries")
+    private int size;
+
+    @Schema(description = "Maximum cached entries before least recently used ones are evicted")
+    private int maxSize;
+
+    @Schema(description = "Lookups served from the cache")
+    private long hits;
+
+    @Schema(description = "Lookups that had to load or compute the entry")
+    private long misses;
+
+    @Schema(description = "Entries evicted to stay within maxSize")
+    private long evictions;
+
+    @Schema(description = "hits / (hits + misses)")
+    private double hitRatio;
+}
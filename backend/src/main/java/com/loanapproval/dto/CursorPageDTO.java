@@ -0,0 +1,34 @@
+package com.loanapproval.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "CursorPage", description = "One page of a keyset-paginated listing")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Items of this page")
+    private List<T> content;
+
+    @Schema(description = "Number of items in this page")
+    private int size;
+
+    @Schema(description = "Whether another page follows")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque token to pass as cursor for the next page; absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Total number of matching items; only present when includeTotal=true")
+    private Long totalElements;
+}
@@ -0,0 +1,23 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "DashboardDelta", description = "Change of the dashboard statistics, pushed over /events")
+public class DashboardDeltaDTO {
+
+    @Schema(description = "Change of each affected count, keyed by DashboardStats field name")
+    private Map<String, Long> deltas;
+
+    @Schema(description = "Statistics after the change")
+    private DashboardStatsDTO stats;
+}
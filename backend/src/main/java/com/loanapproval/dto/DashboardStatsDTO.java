@@ -1,5 +1,6 @@
 package com.loanapproval.dto;
 
+import com.loanapproval.common.enums.DashboardScope;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,6 +14,9 @@ import lombok.NoArgsConstructor;
 @Schema(name = "DashboardStats", description = "Dashboard statistics")
 public class DashboardStatsDTO {
 
+    @Schema(description = "Applications covered: the caller's own, those assigned to the caller, or all")
+    private DashboardScope scope;
+
     @Schema(description = "Total applications")
     private long totalApplications;
 
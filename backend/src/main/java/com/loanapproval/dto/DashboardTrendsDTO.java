@@ -0,0 +1,31 @@
+package com.loanapproval.dto;
+
+import com.loanapproval.common.enums.TrendGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "DashboardTrends", description = "Application volumes, approval rates and risk scores over time")
+public class DashboardTrendsDTO {
+
+    @Schema(description = "Bucket size")
+    private TrendGranularity granularity;
+
+    @Schema(description = "First day covered")
+    private LocalDate from;
+
+    @Schema(description = "Last day covered")
+    private LocalDate to;
+
+    @Schema(description = "Buckets with activity, oldest first; empty buckets are omitted")
+    private List<TrendPointDTO> points;
+}
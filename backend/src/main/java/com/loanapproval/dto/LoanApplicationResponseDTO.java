@@ -3,6 +3,7 @@ package com.loanapproval.dto;
 import com.loanapproval.common.enums.EmploymentType;
 import com.loanapproval.common.enums.LoanStatus;
 import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.ScoringStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,9 @@ public class LoanApplicationResponseDTO {
     @Schema(description = "Database ID")
     private Long id;
 
+    @Schema(description = "Row version, also sent as the ETag")
+    private Long version;
+
     @Schema(description = "Unique application ID", example = "LA-2024-001")
     private String applicationId;
 
@@ -77,6 +81,12 @@ public class LoanApplicationResponseDTO {
     @Schema(description = "Risk score (0-100)")
     private BigDecimal riskScore;
 
+    @Schema(description = "Scoring model version that produced the risk score")
+    private Integer riskModelVersion;
+
+    @Schema(description = "Risk scoring state; IN_PROGRESS until the risk score is available")
+    private ScoringStatus scoringStatus;
+
     @Schema(description = "Application status")
     private LoanStatus status;
 
@@ -0,0 +1,71 @@
+package com.loanapproval.dto;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.ScoringStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * List row for loan applications. Filled by a JPQL constructor expression, so the field order
+ * must match LoanApplicationRepository.SUMMARY_SELECT.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "LoanApplicationSummary", description = "Loan application list row without notes, AI text or risk factors")
+public class LoanApplicationSummaryDTO {
+
+    @Schema(description = "Application database ID")
+    private Long id;
+
+    @Schema(description = "Unique application ID")
+    private String applicationId;
+
+    @Schema(description = "Applicant full name")
+    private String applicantName;
+
+    @Schema(description = "Applicant email")
+    private String email;
+
+    @Schema(description = "Loan type")
+    private LoanType loanType;
+
+    @Schema(description = "Loan amount")
+    private BigDecimal loanAmount;
+
+    @Schema(description = "Loan term in months")
+    private Integer loanTerm;
+
+    @Schema(description = "Credit score")
+    private Integer creditScore;
+
+    @Schema(description = "Employment type")
+    private EmploymentType employmentType;
+
+    @Schema(description = "Overall risk score (0-100)")
+    private BigDecimal riskScore;
+
+    @Schema(description = "Whether the risk score is still being computed")
+    private ScoringStatus scoringStatus;
+
+    @Schema(description = "Application status")
+    private LoanStatus status;
+
+    @Schema(description = "Submission timestamp")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "Review timestamp")
+    private LocalDateTime reviewedAt;
+
+    @Schema(description = "Assigned officer")
+    private String assignedOfficer;
+}
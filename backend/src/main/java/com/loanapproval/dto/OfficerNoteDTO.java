@@ -0,0 +1,32 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "OfficerNote", description = "A single officer note on an application")
+public class OfficerNoteDTO {
+
+    @Schema(description = "Note ID")
+    private Long id;
+
+    @Schema(description = "Internal ID of the application the note belongs to")
+    private Long applicationId;
+
+    @Schema(description = "Email of the officer who wrote the note")
+    private String author;
+
+    @Schema(description = "Note text")
+    private String note;
+
+    @Schema(description = "When the note was added")
+    private LocalDateTime createdAt;
+}
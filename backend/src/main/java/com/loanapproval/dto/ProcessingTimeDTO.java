@@ -0,0 +1,37 @@
+package com.loanapproval.dto;
+
+import com.loanapproval.common.enums.LoanType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ProcessingTime", description = "Distribution of the time from submission to decision")
+public class ProcessingTimeDTO {
+
+    @Schema(description = "Loan type, null for all loan types together")
+    private LoanType loanType;
+
+    @Schema(description = "Approvals and rejections measured")
+    private long decisions;
+
+    @Schema(description = "Median processing time in hours, null if there are no decisions")
+    private Double p50Hours;
+
+    @Schema(description = "90th percentile processing time in hours")
+    private Double p90Hours;
+
+    @Schema(description = "99th percentile processing time in hours")
+    private Double p99Hours;
+
+    @Schema(description = "Mean processing time in hours")
+    private Double meanHours;
+
+    @Schema(description = "Longest processing time in hours")
+    private Double maxHours;
+}
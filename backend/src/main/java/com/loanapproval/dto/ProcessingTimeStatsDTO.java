@@ -0,0 +1,27 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ProcessingTimeStats", description = "Processing time percentiles overall and per loan type")
+public class ProcessingTimeStatsDTO {
+
+    @Schema(description = "All loan types together")
+    private ProcessingTimeDTO overall;
+
+    @Schema(description = "One entry per loan type with decisions")
+    private List<ProcessingTimeDTO> byLoanType;
+
+    @Schema(description = "Latest time an instance added its decisions; newer decisions are not included yet")
+    private LocalDateTime updatedAt;
+}
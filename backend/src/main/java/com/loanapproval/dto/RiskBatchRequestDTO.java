@@ -0,0 +1,29 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "RiskBatchRequest", description = "Request to re-score stored applications or score what-if payloads in bulk")
+public class RiskBatchRequestDTO {
+
+    @Schema(description = "Database IDs of stored applications to re-score")
+    @Size(max = 10000, message = "At most 10000 application IDs per batch")
+    @Builder.Default
+    private List<Long> applicationIds = new ArrayList<>();
+
+    @Schema(description = "Raw application payloads to score without persisting anything")
+    @Size(max = 10000, message = "At most 10000 applications per batch")
+    @Builder.Default
+    private List<LoanApplicationRequestDTO> applications = new ArrayList<>();
+}
@@ -0,0 +1,46 @@
+package com.loanapproval.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "RiskBatchResult", description = "Outcome for a single item of a batch scoring request")
+public class RiskBatchResultDTO {
+
+    @Schema(description = "Position of the item in its request list")
+    private int index;
+
+    @Schema(description = "Database ID of the re-scored application (ID mode only)")
+    private Long applicationId;
+
+    @Schema(description = "Whether the item was scored")
+    private boolean success;
+
+    @Schema(description = "Risk score (0-100)")
+    private BigDecimal riskScore;
+
+    @Schema(description = "Decision derived from the risk score", example = "MANUAL_REVIEW")
+    private String decision;
+
+    @Schema(description = "Scoring model version that produced the score")
+    private Integer modelVersion;
+
+    @Schema(description = "Debt-to-Income ratio (%)")
+    private BigDecimal dtiRatio;
+
+    @Schema(description = "Loan-to-Income ratio")
+    private BigDecimal ltiRatio;
+
+    @Schema(description = "Failure reason when the item could not be scored")
+    private String error;
+}
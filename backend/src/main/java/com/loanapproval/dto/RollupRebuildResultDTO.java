@@ -0,0 +1,32 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "RollupRebuildResult", description = "Outcome of one trend rollup rebuild")
+public class RollupRebuildResultDTO {
+
+    @Schema(description = "First day rebuilt")
+    private LocalDate from;
+
+    @Schema(description = "Last day rebuilt")
+    private LocalDate to;
+
+    @Schema(description = "Applications read, live and archived")
+    private int applications;
+
+    @Schema(description = "Rollup rows written")
+    private int buckets;
+
+    @Schema(description = "Run time in milliseconds")
+    private long durationMs;
+}
@@ -0,0 +1,57 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ScoringModelResponse", description = "Risk scoring model version")
+public class ScoringModelDTO {
+
+    @Schema(description = "Model version")
+    private Integer version;
+
+    @Schema(description = "What changed in this version")
+    private String description;
+
+    @Schema(description = "Credit score weight (%)")
+    private BigDecimal creditScoreWeight;
+
+    @Schema(description = "Debt-to-Income weight (%)")
+    private BigDecimal dtiWeight;
+
+    @Schema(description = "Employment stability weight (%)")
+    private BigDecimal employmentWeight;
+
+    @Schema(description = "Loan-to-Income weight (%)")
+    private BigDecimal ltiWeight;
+
+    @Schema(description = "Document verification weight (%)")
+    private BigDecimal documentWeight;
+
+    @Schema(description = "Auto-approve threshold")
+    private BigDecimal autoApproveThreshold;
+
+    @Schema(description = "Auto-reject threshold")
+    private BigDecimal autoRejectThreshold;
+
+    @Schema(description = "Whether this version is live")
+    private boolean active;
+
+    @Schema(description = "Created by")
+    private String createdBy;
+
+    @Schema(description = "Record creation timestamp")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Activation timestamp")
+    private LocalDateTime activatedAt;
+}
@@ -0,0 +1,65 @@
+package com.loanapproval.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "ScoringModelRequest", description = "Parameters for a new risk scoring model version")
+public class ScoringModelRequestDTO {
+
+    @Schema(description = "What changed in this version")
+    private String description;
+
+    @Schema(description = "Credit score weight (%)", example = "30")
+    @NotNull(message = "Credit score weight is required")
+    @DecimalMin(value = "0", message = "Weights cannot be negative")
+    @DecimalMax(value = "100", message = "Weights cannot exceed 100")
+    private BigDecimal creditScoreWeight;
+
+    @Schema(description = "Debt-to-Income weight (%)", example = "25")
+    @NotNull(message = "DTI weight is required")
+    @DecimalMin(value = "0", message = "Weights cannot be negative")
+    @DecimalMax(value = "100", message = "Weights cannot exceed 100")
+    private BigDecimal dtiWeight;
+
+    @Schema(description = "Employment stability weight (%)", example = "20")
+    @NotNull(message = "Employment weight is required")
+    @DecimalMin(value = "0", message = "Weights cannot be negative")
+    @DecimalMax(value = "100", message = "Weights cannot exceed 100")
+    private BigDecimal employmentWeight;
+
+    @Schema(description = "Loan-to-Income weight (%)", example = "15")
+    @NotNull(message = "LTI weight is required")
+    @DecimalMin(value = "0", message = "Weights cannot be negative")
+    @DecimalMax(value = "100", message = "Weights cannot exceed 100")
+    private BigDecimal ltiWeight;
+
+    @Schema(description = "Document verification weight (%)", example = "10")
+    @NotNull(message = "Document weight is required")
+    @DecimalMin(value = "0", message = "Weights cannot be negative")
+    @DecimalMax(value = "100", message = "Weights cannot exceed 100")
+    private BigDecimal documentWeight;
+
+    @Schema(description = "Scores at or below this are auto-approved", example = "30")
+    @NotNull(message = "Auto-approve threshold is required")
+    @DecimalMin(value = "0", message = "Thresholds must be between 0 and 100")
+    @DecimalMax(value = "100", message = "Thresholds must be between 0 and 100")
+    private BigDecimal autoApproveThreshold;
+
+    @Schema(description = "Scores at or above this are auto-rejected", example = "60")
+    @NotNull(message = "Auto-reject threshold is required")
+    @DecimalMin(value = "0", message = "Thresholds must be between 0 and 100")
+    @DecimalMax(value = "100", message = "Thresholds must be between 0 and 100")
+    private BigDecimal autoRejectThreshold;
+}
@@ -0,0 +1,43 @@
+package com.loanapproval.dto;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(name = "TrendPoint", description = "Aggregates of one trend bucket")
+public class TrendPointDTO {
+
+    @Schema(description = "Start of the bucket")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Loan type, when grouped by it")
+    private LoanType loanType;
+
+    @Schema(description = "Employment type, when grouped by it")
+    private EmploymentType employmentType;
+
+    @Schema(description = "Applications submitted in the bucket")
+    private long submittedApplications;
+
+    @Schema(description = "Applications approved in the bucket")
+    private long approvedApplications;
+
+    @Schema(description = "Applications rejected in the bucket")
+    private long rejectedApplications;
+
+    @Schema(description = "Approved share of the decisions made in the bucket, in percent")
+    private Double approvalRate;
+
+    @Schema(description = "Average risk score of the scored applications submitted in the bucket, null if none")
+    private Double averageRiskScore;
+}
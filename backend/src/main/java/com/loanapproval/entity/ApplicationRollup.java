@@ -0,0 +1,64 @@
+package com.loanapproval.entity;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.TrendGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Aggregates for one hour or day bucket and one loan type / employment type pair. Submissions and risk
+ * scores count in the bucket the application was submitted in, approvals and rejections in the bucket
+ * it was decided in.
+ */
+@Entity
+@Table(name = "application_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_rollup_bucket", columnNames = {"granularity", "bucket_start", "loan_type", "employment_type"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_rollups_seq")
+    @SequenceGenerator(name = "application_rollups_seq", sequenceName = "application_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TrendGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "loan_type", nullable = false)
+    private LoanType loanType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "employment_type", nullable = false)
+    private EmploymentType employmentType;
+
+    @Column(name = "submitted_count", nullable = false)
+    private long submittedCount;
+
+    @Column(name = "approved_count", nullable = false)
+    private long approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private long rejectedCount;
+
+    @Column(name = "scored_count", nullable = false)
+    private long scoredCount;
+
+    @Column(name = "risk_score_sum", nullable = false, precision = 19, scale = 2)
+    private BigDecimal riskScoreSum;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
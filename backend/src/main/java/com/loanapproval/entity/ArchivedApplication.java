@@ -0,0 +1,75 @@
+package com.loanapproval.entity;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A decided application moved out of the hot tables together with its documents, risk factor history,
+ * audit log and notes. The full record is kept as gzip-compressed JSON; only the columns needed to find
+ * and authorize it and to rebuild dashboard statistics are stored separately. Keeps the ID it had in
+ * loan_applications.
+ */
+@Entity
+@Table(name = "archived_applications", indexes = {
+    @Index(name = "idx_archived_app_id", columnList = "application_id", unique = true),
+    @Index(name = "idx_archived_email", columnList = "email")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedApplication implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "application_id", nullable = false, unique = true)
+    private String applicationId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LoanStatus status;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LoanType loanType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmploymentType employmentType;
+
+    @Column(name = "risk_score", columnDefinition = "DECIMAL(5,2)")
+    private BigDecimal riskScore;
+
+    @Column(nullable = false)
+    private LocalDateTime submittedAt;
+
+    private LocalDateTime reviewedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(nullable = false, length = 1_000_000)
+    private byte[] payload;
+
+    /**
+     * Archive rows are written once and never updated, so saving always inserts without a prior select
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
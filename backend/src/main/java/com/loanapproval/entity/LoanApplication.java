@@ -5,8 +5,10 @@ import com.loanapproval.common.enums.DocumentType;
 import com.loanapproval.common.enums.LoanStatus;
 import com.loanapproval.common.enums.LoanType;
 import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.ScoringStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -17,9 +19,15 @@ import java.util.List;
 @Table(name = "loan_applications", indexes = {
     @Index(name = "idx_app_id", columnList = "application_id", unique = true),
     @Index(name = "idx_applicant_email", columnList = "email"),
-    @Index(name = "idx_status", columnList = "status"),
-    @Index(name = "idx_submitted_at", columnList = "submitted_at")
+    @Index(name = "idx_status_submitted_at_id", columnList = "status, submitted_at, id"),
+    @Index(name = "idx_loan_type_submitted_at_id", columnList = "loan_type, submitted_at, id"),
+    @Index(name = "idx_officer_status", columnList = "assigned_officer, status"),
+    @Index(name = "idx_submitted_at_id", columnList = "submitted_at, id"),
+    @Index(name = "idx_email_submitted_at_id", columnList = "email, submitted_at, id"),
+    @Index(name = "idx_loan_amount_id", columnList = "loan_amount, id"),
+    @Index(name = "idx_risk_score_id", columnList = "risk_score, id")
 })
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,9 +35,16 @@ import java.util.List;
 public class LoanApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_applications_seq")
+    @SequenceGenerator(name = "loan_applications_seq", sequenceName = "loan_applications_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock and ETag source; the default fills rows that existed before the column
+    @Version
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long version = 0L;
+
     @Column(name = "application_id", nullable = false, unique = true)
     private String applicationId;
 
@@ -90,6 +105,16 @@ public class LoanApplication {
     @Column(name = "risk_score", columnDefinition = "DECIMAL(5,2)")
     private BigDecimal riskScore; // 0-100
 
+    @Column(name = "risk_model_version")
+    private Integer riskModelVersion; // scoring model version that produced riskScore
+
+    @Embedded
+    private RiskFactorVector riskFactors; // current factor breakdown behind riskScore
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scoring_status", length = 20)
+    private ScoringStatus scoringStatus; // null for applications scored before async scoring existed
+
     // Status & Workflow
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -124,10 +149,12 @@ public class LoanApplication {
     // Relations
     @JsonIgnore
     @OneToMany(mappedBy = "loanApplication", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Builder.Default
     private List<LoanDocument> documents = new ArrayList<>();
 
     @JsonIgnore
     @OneToMany(mappedBy = "loanApplication", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Builder.Default
     private List<AuditLog> auditLogs = new ArrayList<>();
 
     // Audit Fields
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class LoanDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_documents_seq")
+    @SequenceGenerator(name = "loan_documents_seq", sequenceName = "loan_documents_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,51 @@
+package com.loanapproval.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One officer note on an application. Rows are only ever inserted, never updated or deleted,
+ * so adding a note does not touch the application row.
+ */
+@Entity
+@Immutable
+@Table(name = "officer_notes", indexes = {
+    @Index(name = "idx_officer_note_app_created", columnList = "loan_application_id, created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfficerNote {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "officer_notes_seq")
+    @SequenceGenerator(name = "officer_notes_seq", sequenceName = "officer_notes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String author; // user email
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String note;
+
+    // Relations
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "loan_application_id", nullable = false)
+    private LoanApplication loanApplication;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.loanapproval.entity;
+
+import com.loanapproval.common.enums.LoanType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Processing time histogram of all decisions on one loan type, shared by every instance. Each instance
+ * adds the decisions it saw since its last flush to the stored histogram.
+ */
+@Entity
+@Table(name = "processing_time_sketches")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessingTimeSketch {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "loan_type", length = 32)
+    private LoanType loanType;
+
+    @Column(name = "decision_count", nullable = false)
+    private long decisionCount;
+
+    // Compressed HdrHistogram of processing seconds
+    @Column(nullable = false, length = 65536)
+    private byte[] histogram;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
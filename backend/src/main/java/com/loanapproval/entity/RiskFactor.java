@@ -7,6 +7,10 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * Append-only history of factor evaluations, written only when risk.factors.history-enabled is set.
+ * The current breakdown of an application lives in {@link RiskFactorVector}.
+ */
 @Entity
 @Table(name = "risk_factors", indexes = {
     @Index(name = "idx_risk_app_id", columnList = "loan_application_id")
@@ -18,7 +22,8 @@ import java.time.LocalDateTime;
 public class RiskFactor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "risk_factors_seq")
+    @SequenceGenerator(name = "risk_factors_seq", sequenceName = "risk_factors_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
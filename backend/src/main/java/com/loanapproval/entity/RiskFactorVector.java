@@ -0,0 +1,130 @@
+package com.loanapproval.entity;
+
+import com.loanapproval.common.enums.RiskFactorType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Current risk factor breakdown of an application, stored in columns on the application's own row.
+ * Rescoring overwrites these columns, so there is exactly one vector per application;
+ * weights come from the scoring model version recorded next to the risk score.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RiskFactorVector {
+
+    @Column(name = "rf_credit_score_value", columnDefinition = "DECIMAL(7,2)")
+    private BigDecimal creditScoreValue;
+
+    @Column(name = "rf_credit_score_score", columnDefinition = "DECIMAL(5,2)")
+    private BigDecimal creditScoreScore;
+
+    @Column(name = "rf_credit_score_status", length = 10)
+    private String creditScoreStatus;
+
+    @Column(name = "rf_dti_value", columnDefinition = "DECIMAL(12,2)")
+    private BigDecimal dtiValue;
+
+    @Column(name = "rf_dti_score", columnDefinition = "DECIMAL(5,2)")
+    private BigDecimal dtiScore;
+
+    @Column(name = "rf_dti_status", length = 10)
+    private String dtiStatus;
+
+    @Column(name = "rf_employment_value", columnDefinition = "DECIMAL(7,2)")
+    private BigDecimal employmentValue;
+
+    @Column(name = "rf_employment_score", columnDefinition = "DECIMAL(5,2)")
+    private BigDecimal employmentScore;
+
+    @Column(name = "rf_employment_status", length = 10)
+    private String employmentStatus;
+
+    @Column(name = "rf_lti_value", columnDefinition = "DECIMAL(12,2)")
+    private BigDecimal ltiValue;
+
+    @Column(name = "rf_lti_score", columnDefinition = "DECIMAL(5,2)")
+    private BigDecimal ltiScore;
+
+    @Column(name = "rf_lti_status", length = 10)
+    private String ltiStatus;
+
+    @Column(name = "rf_document_value", columnDefinition = "DECIMAL(5,2)")
+    private BigDecimal documentValue;
+
+    @Column(name = "rf_document_score", columnDefinition = "DECIMAL(5,2)")
+    private BigDecimal documentScore;
+
+    @Column(name = "rf_document_status", length = 10)
+    private String documentStatus;
+
+    @Column(name = "rf_scored_at")
+    private LocalDateTime scoredAt;
+
+    public BigDecimal getValue(RiskFactorType type) {
+        return switch (type) {
+            case CREDIT_SCORE -> creditScoreValue;
+            case DEBT_TO_INCOME -> dtiValue;
+            case EMPLOYMENT_STABILITY -> employmentValue;
+            case LOAN_TO_INCOME -> ltiValue;
+            case DOCUMENT_VERIFICATION -> documentValue;
+        };
+    }
+
+    public BigDecimal getScore(RiskFactorType type) {
+        return switch (type) {
+            case CREDIT_SCORE -> creditScoreScore;
+            case DEBT_TO_INCOME -> dtiScore;
+            case EMPLOYMENT_STABILITY -> employmentScore;
+            case LOAN_TO_INCOME -> ltiScore;
+            case DOCUMENT_VERIFICATION -> documentScore;
+        };
+    }
+
+    public String getStatus(RiskFactorType type) {
+        return switch (type) {
+            case CREDIT_SCORE -> creditScoreStatus;
+            case DEBT_TO_INCOME -> dtiStatus;
+            case EMPLOYMENT_STABILITY -> employmentStatus;
+            case LOAN_TO_INCOME -> ltiStatus;
+            case DOCUMENT_VERIFICATION -> documentStatus;
+        };
+    }
+
+    public void setFactor(RiskFactorType type, BigDecimal value, BigDecimal score, String status) {
+        switch (type) {
+            case CREDIT_SCORE -> {
+                creditScoreValue = value;
+                creditScoreScore = score;
+                creditScoreStatus = status;
+            }
+            case DEBT_TO_INCOME -> {
+                dtiValue = value;
+                dtiScore = score;
+                dtiStatus = status;
+            }
+            case EMPLOYMENT_STABILITY -> {
+                employmentValue = value;
+                employmentScore = score;
+                employmentStatus = status;
+            }
+            case LOAN_TO_INCOME -> {
+                ltiValue = value;
+                ltiScore = score;
+                ltiStatus = status;
+            }
+            case DOCUMENT_VERIFICATION -> {
+                documentValue = value;
+                documentScore = score;
+                documentStatus = status;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.loanapproval.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scoring_models", indexes = {
+    @Index(name = "idx_scoring_model_version", columnList = "version", unique = true),
+    @Index(name = "idx_scoring_model_active", columnList = "active")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoringModel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scoring_models_seq")
+    @SequenceGenerator(name = "scoring_models_seq", sequenceName = "scoring_models_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Integer version;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    // Factor weights (percentages, summing to 100)
+    @Column(nullable = false)
+    private BigDecimal creditScoreWeight;
+
+    @Column(nullable = false)
+    private BigDecimal dtiWeight;
+
+    @Column(nullable = false)
+    private BigDecimal employmentWeight;
+
+    @Column(nullable = false)
+    private BigDecimal ltiWeight;
+
+    @Column(nullable = false)
+    private BigDecimal documentWeight;
+
+    // Decision thresholds on the 0-100 risk score
+    @Column(nullable = false)
+    private BigDecimal autoApproveThreshold;
+
+    @Column(nullable = false)
+    private BigDecimal autoRejectThreshold;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
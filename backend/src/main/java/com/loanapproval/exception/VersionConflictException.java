@@ -0,0 +1,17 @@
+package com.loanapproval.exception;
+
+public class VersionConflictException extends RuntimeException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * Throw when the client sent an If-Match version the application no longer has; no version means no check
+     */
+    public static void check(Long applicationId, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new VersionConflictException("Application " + applicationId + " has changed; current version is "
+                    + currentVersion);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.TrendGranularity;
+import com.loanapproval.entity.ApplicationRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ApplicationRollupRepository extends JpaRepository<ApplicationRollup, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ApplicationRollup r WHERE r.granularity = :granularity AND r.bucketStart = :bucketStart " +
+            "AND r.loanType = :loanType AND r.employmentType = :employmentType")
+    Optional<ApplicationRollup> findBucketForUpdate(@Param("granularity") TrendGranularity granularity,
+                                                    @Param("bucketStart") LocalDateTime bucketStart,
+                                                    @Param("loanType") LoanType loanType,
+                                                    @Param("employmentType") EmploymentType employmentType);
+
+    @Query("SELECT r FROM ApplicationRollup r WHERE r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+            "AND (:loanType IS NULL OR r.loanType = :loanType) " +
+            "AND (:employmentType IS NULL OR r.employmentType = :employmentType)")
+    List<ApplicationRollup> findBuckets(@Param("granularity") TrendGranularity granularity,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("loanType") LoanType loanType,
+                                        @Param("employmentType") EmploymentType employmentType);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ApplicationRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteBuckets(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,46 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.entity.ArchivedApplication;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedApplicationRepository extends JpaRepository<ArchivedApplication, Long> {
+
+    Optional<ArchivedApplication> findByApplicationId(String applicationId);
+
+    @Query("SELECT MAX(a.applicationId) FROM ArchivedApplication a WHERE LENGTH(a.applicationId) = 16")
+    String findMaxGeneratedApplicationId();
+
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM ArchivedApplication a GROUP BY a.status")
+    List<LoanApplicationRepository.StatusCount> countGroupedByStatus();
+
+    @Query("SELECT COUNT(a) AS count, SUM(FLOOR((a.reviewedAt - a.submittedAt) by second)) AS seconds " +
+            "FROM ArchivedApplication a WHERE a.reviewedAt IS NOT NULL AND a.submittedAt IS NOT NULL")
+    LoanApplicationRepository.ProcessingTotals sumProcessingTime();
+
+    @Query("SELECT a.status AS status, COUNT(a) AS count, " +
+            "SUM(CASE WHEN a.reviewedAt IS NOT NULL AND a.submittedAt IS NOT NULL THEN 1 ELSE 0 END) AS processedCount, " +
+            "SUM(FLOOR((a.reviewedAt - a.submittedAt) by second)) AS seconds " +
+            "FROM ArchivedApplication a WHERE a.email = :email GROUP BY a.status")
+    List<LoanApplicationRepository.ScopedTotals> sumByStatusForEmail(@Param("email") String email);
+
+    @Query("SELECT a.id AS id, a.status AS status, a.loanType AS loanType, a.employmentType AS employmentType, " +
+            "a.riskScore AS riskScore, a.submittedAt AS submittedAt, a.reviewedAt AS reviewedAt FROM ArchivedApplication a " +
+            "WHERE (a.submittedAt >= :from AND a.submittedAt < :to) OR (a.reviewedAt >= :from AND a.reviewedAt < :to)")
+    List<LoanApplicationRepository.RollupFacts> findRollupFacts(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT a.loanType AS loanType, FLOOR((a.reviewedAt - a.submittedAt) by second) AS seconds, COUNT(a) AS count " +
+            "FROM ArchivedApplication a WHERE a.reviewedAt IS NOT NULL " +
+            "GROUP BY a.loanType, FLOOR((a.reviewedAt - a.submittedAt) by second)")
+    List<LoanApplicationRepository.ProcessingTimeCount> countByProcessingTime();
+
+    @Query("SELECT a.version AS version, a.email AS email FROM ArchivedApplication a WHERE a.id = :id")
+    Optional<LoanApplicationRepository.VersionView> findVersionById(@Param("id") Long id);
+}
@@ -2,11 +2,21 @@ package com.loanapproval.repository;
 
 import com.loanapproval.entity.AuditLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     List<AuditLog> findByLoanApplicationIdOrderByCreatedAtDesc(Long applicationId);
+
+    List<AuditLog> findByLoanApplicationIdIn(Collection<Long> applicationIds);
+
+    @Modifying
+    @Query("DELETE FROM AuditLog al WHERE al.loanApplication.id IN :applicationIds")
+    int deleteByLoanApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
 }
@@ -0,0 +1,28 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.entity.DashboardCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM DashboardCounter c ORDER BY c.name")
+    List<DashboardCounter> findAllForUpdate();
+
+    /**
+     * Add to the stored value in place, so concurrent instances never overwrite each other; 0 when the row is missing
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DashboardCounter c SET c.value = c.value + :delta, c.updatedAt = :now WHERE c.name = :name")
+    int addToValue(@Param("name") String name, @Param("delta") long delta, @Param("now") LocalDateTime now);
+}
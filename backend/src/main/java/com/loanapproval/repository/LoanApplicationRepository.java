@@ -1,21 +1,48 @@
 package com.loanapproval.repository;
 
+import com.loanapproval.dto.LoanApplicationSummaryDTO;
 import com.loanapproval.entity.LoanApplication;
+import com.loanapproval.common.enums.EmploymentType;
 import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.ScoringStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long> {
+public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long>,
+        JpaSpecificationExecutor<LoanApplication>, LoanApplicationSearchRepository {
+
+    // List views select only the summary columns; the TEXT columns are read on the detail endpoint only
+    String SUMMARY_SELECT = "SELECT new com.loanapproval.dto.LoanApplicationSummaryDTO(" +
+            "la.id, la.applicationId, la.applicantName, la.email, la.loanType, la.loanAmount, la.loanTerm, " +
+            "la.creditScore, la.employmentType, la.riskScore, la.scoringStatus, la.status, la.submittedAt, " +
+            "la.reviewedAt, la.assignedOfficer) FROM LoanApplication la";
+
+    // Per-status counts and processing time of one customer's or one officer's applications
+    String SCOPED_TOTALS_SELECT = "SELECT la.status AS status, COUNT(la) AS count, " +
+            "SUM(CASE WHEN la.reviewedAt IS NOT NULL AND la.submittedAt IS NOT NULL THEN 1 ELSE 0 END) AS processedCount, " +
+            "SUM(FLOOR((la.reviewedAt - la.submittedAt) by second)) AS seconds FROM LoanApplication la";
+
     Optional<LoanApplication> findByApplicationId(String applicationId);
+
+    // Highest Snowflake applicationId issued; older "LA-<millis>-<uuid>" IDs are longer than 16 characters
+    @Query("SELECT MAX(la.applicationId) FROM LoanApplication la WHERE LENGTH(la.applicationId) = 16")
+    String findMaxGeneratedApplicationId();
     List<LoanApplication> findByEmail(String email);
     Page<LoanApplication> findByEmail(String email, Pageable pageable);
     Page<LoanApplication> findByStatus(LoanStatus status, Pageable pageable);
@@ -29,10 +56,132 @@ public interface LoanApplicationRepository extends JpaRepository<LoanApplication
     @Query("SELECT COUNT(la) FROM LoanApplication la")
     long countTotal();
 
-    List<LoanApplication> findByReviewedAtIsNotNull();
+    @Query("SELECT la.status AS status, COUNT(la) AS count FROM LoanApplication la GROUP BY la.status")
+    List<StatusCount> countGroupedByStatus();
+
+    @Query("SELECT COUNT(la) AS count, SUM(FLOOR((la.reviewedAt - la.submittedAt) by second)) AS seconds " +
+            "FROM LoanApplication la WHERE la.reviewedAt IS NOT NULL AND la.submittedAt IS NOT NULL")
+    ProcessingTotals sumProcessingTime();
+
+    @Query(SCOPED_TOTALS_SELECT + " WHERE la.email = :email GROUP BY la.status")
+    List<ScopedTotals> sumByStatusForEmail(@Param("email") String email);
+
+    @Query(SCOPED_TOTALS_SELECT + " WHERE la.assignedOfficer = :officer GROUP BY la.status")
+    List<ScopedTotals> sumByStatusForAssignedOfficer(@Param("officer") String officer);
+
+    @Query("SELECT la.id AS id, la.status AS status, la.loanType AS loanType, la.employmentType AS employmentType, " +
+            "la.riskScore AS riskScore, la.submittedAt AS submittedAt, la.reviewedAt AS reviewedAt FROM LoanApplication la " +
+            "WHERE (la.submittedAt >= :from AND la.submittedAt < :to) OR (la.reviewedAt >= :from AND la.reviewedAt < :to)")
+    List<RollupFacts> findRollupFacts(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT la.loanType AS loanType, FLOOR((la.reviewedAt - la.submittedAt) by second) AS seconds, COUNT(la) AS count " +
+            "FROM LoanApplication la WHERE la.reviewedAt IS NOT NULL AND la.submittedAt IS NOT NULL " +
+            "GROUP BY la.loanType, FLOOR((la.reviewedAt - la.submittedAt) by second)")
+    List<ProcessingTimeCount> countByProcessingTime();
 
     @Query("SELECT COUNT(la) FROM LoanApplication la WHERE la.status = 'APPROVED' AND la.submittedAt >= :startDate")
     long countApprovedSince(@Param("startDate") LocalDateTime startDate);
 
     Page<LoanApplication> findAll(Pageable pageable);
+
+    long countByEmail(String email);
+
+    // Keyset pages over (submittedAt, id); the Pageable only carries the limit and the sort, so no COUNT query runs
+    @Query(SUMMARY_SELECT)
+    List<LoanApplicationSummaryDTO> findFirstPage(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE la.email = :email")
+    List<LoanApplicationSummaryDTO> findFirstPageByEmail(@Param("email") String email, Pageable pageable);
+
+    // The outer bound on submittedAt is redundant but gives PostgreSQL an index range to start the scan from
+    @Query(SUMMARY_SELECT + " WHERE la.submittedAt <= :submittedAt AND (la.submittedAt < :submittedAt " +
+            "OR (la.submittedAt = :submittedAt AND la.id < :id))")
+    List<LoanApplicationSummaryDTO> findPageBefore(@Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE la.submittedAt >= :submittedAt AND (la.submittedAt > :submittedAt " +
+            "OR (la.submittedAt = :submittedAt AND la.id > :id))")
+    List<LoanApplicationSummaryDTO> findPageAfter(@Param("submittedAt") LocalDateTime submittedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE la.email = :email AND la.submittedAt <= :submittedAt AND (la.submittedAt < :submittedAt " +
+            "OR (la.submittedAt = :submittedAt AND la.id < :id))")
+    List<LoanApplicationSummaryDTO> findPageByEmailBefore(@Param("email") String email, @Param("submittedAt") LocalDateTime submittedAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE la.email = :email AND la.submittedAt >= :submittedAt AND (la.submittedAt > :submittedAt " +
+            "OR (la.submittedAt = :submittedAt AND la.id > :id))")
+    List<LoanApplicationSummaryDTO> findPageByEmailAfter(@Param("email") String email, @Param("submittedAt") LocalDateTime submittedAt,
+                                               @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + " WHERE la.id IN :ids")
+    List<LoanApplicationSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT la.id AS id, la.applicantName AS applicantName, la.employerName AS employerName, la.purpose AS purpose " +
+            "FROM LoanApplication la")
+    List<SearchFields> findSearchFields();
+
+    @Query("SELECT la.version AS version, la.email AS email FROM LoanApplication la WHERE la.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT la.id FROM LoanApplication la WHERE la.status IN :statuses AND la.reviewedAt < :cutoff ORDER BY la.id")
+    List<Long> findIdsDecidedBefore(@Param("statuses") Collection<LoanStatus> statuses, @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
+
+    /**
+     * Locks the rows so decisions and notes cannot land on an application while it is being archived
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT la FROM LoanApplication la WHERE la.id IN :ids")
+    List<LoanApplication> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM LoanApplication la WHERE la.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT la.id FROM LoanApplication la WHERE la.scoringStatus = :scoringStatus")
+    List<Long> findIdsByScoringStatus(@Param("scoringStatus") ScoringStatus scoringStatus);
+
+    interface SearchFields {
+        Long getId();
+        String getApplicantName();
+        String getEmployerName();
+        String getPurpose();
+    }
+
+    interface StatusCount {
+        LoanStatus getStatus();
+        Long getCount();
+    }
+
+    interface ProcessingTotals {
+        Long getCount();
+        Number getSeconds();
+    }
+
+    interface ProcessingTimeCount {
+        LoanType getLoanType();
+        Number getSeconds();
+        Long getCount();
+    }
+
+    interface ScopedTotals {
+        LoanStatus getStatus();
+        Long getCount();
+        Number getProcessedCount();
+        Number getSeconds();
+    }
+
+    interface RollupFacts {
+        Long getId();
+        LoanStatus getStatus();
+        LoanType getLoanType();
+        EmploymentType getEmploymentType();
+        BigDecimal getRiskScore();
+        LocalDateTime getSubmittedAt();
+        LocalDateTime getReviewedAt();
+    }
+
+    interface VersionView {
+        Long getVersion();
+        String getEmail();
+    }
 }
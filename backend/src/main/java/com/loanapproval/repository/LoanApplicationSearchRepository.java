@@ -0,0 +1,26 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.dto.ApplicationExportRowDTO;
+import com.loanapproval.dto.LoanApplicationSummaryDTO;
+import com.loanapproval.entity.LoanApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Specification queries that select the summary or export projection instead of whole entities
+ */
+public interface LoanApplicationSearchRepository {
+
+    Page<LoanApplicationSummaryDTO> searchSummaries(Specification<LoanApplication> specification, Pageable pageable);
+
+    /**
+     * Forward-only stream of every matching export row, fetched from the database in batches of fetchSize.
+     * Rows are not attached to the persistence context, so memory stays flat for any result size.
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<ApplicationExportRowDTO> streamExportRows(Specification<LoanApplication> specification, Sort sort, int fetchSize);
+}
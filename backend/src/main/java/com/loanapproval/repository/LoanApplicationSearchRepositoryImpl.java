@@ -0,0 +1,107 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.dto.ApplicationExportRowDTO;
+import com.loanapproval.dto.LoanApplicationSummaryDTO;
+import com.loanapproval.entity.LoanApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+class LoanApplicationSearchRepositoryImpl implements LoanApplicationSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<LoanApplicationSummaryDTO> searchSummaries(Specification<LoanApplication> specification, Pageable pageable) {
+        CriteriaQuery<LoanApplicationSummaryDTO> query = summaryQuery(specification, pageable.getSort());
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(entityManager.createQuery(query).getResultList());
+        }
+
+        List<LoanApplicationSummaryDTO> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // The count only runs when the page alone cannot tell the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Stream<ApplicationExportRowDTO> streamExportRows(Specification<LoanApplication> specification, Sort sort, int fetchSize) {
+        return entityManager.createQuery(exportQuery(specification, sort))
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<LoanApplicationSummaryDTO> summaryQuery(Specification<LoanApplication> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        // Same columns and order as LoanApplicationRepository.SUMMARY_SELECT
+        CriteriaQuery<LoanApplicationSummaryDTO> query = cb.createQuery(LoanApplicationSummaryDTO.class);
+        Root<LoanApplication> root = query.from(LoanApplication.class);
+        query.select(cb.construct(LoanApplicationSummaryDTO.class,
+                root.get("id"), root.get("applicationId"), root.get("applicantName"), root.get("email"),
+                root.get("loanType"), root.get("loanAmount"), root.get("loanTerm"), root.get("creditScore"),
+                root.get("employmentType"), root.get("riskScore"), root.get("scoringStatus"), root.get("status"),
+                root.get("submittedAt"), root.get("reviewedAt"), root.get("assignedOfficer")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, cb));
+        return query;
+    }
+
+    private CriteriaQuery<ApplicationExportRowDTO> exportQuery(Specification<LoanApplication> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        // Same order as the ApplicationExportRowDTO fields
+        CriteriaQuery<ApplicationExportRowDTO> query = cb.createQuery(ApplicationExportRowDTO.class);
+        Root<LoanApplication> root = query.from(LoanApplication.class);
+        query.select(cb.construct(ApplicationExportRowDTO.class,
+                root.get("id"), root.get("applicationId"), root.get("applicantName"), root.get("email"),
+                root.get("loanType"), root.get("loanAmount"), root.get("loanTerm"), root.get("purpose"),
+                root.get("annualIncome"), root.get("monthlyExpenses"), root.get("existingDebts"), root.get("creditScore"),
+                root.get("employmentType"), root.get("employmentDuration"), root.get("employerName"),
+                root.get("dtiRatio"), root.get("ltiRatio"), root.get("riskScore"), root.get("riskModelVersion"),
+                root.get("scoringStatus"), root.get("status"), root.get("submittedAt"), root.get("reviewedAt"),
+                root.get("reviewedBy"), root.get("assignedOfficer")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(toOrders(sort, root, cb));
+        return query;
+    }
+
+    private long count(Specification<LoanApplication> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<LoanApplication> root = query.from(LoanApplication.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -3,8 +3,12 @@ package com.loanapproval.repository;
 import com.loanapproval.entity.LoanDocument;
 import com.loanapproval.common.enums.DocumentType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +16,21 @@ public interface LoanDocumentRepository extends JpaRepository<LoanDocument, Long
     List<LoanDocument> findByLoanApplicationId(Long applicationId);
     List<LoanDocument> findByLoanApplicationIdAndDocumentType(Long applicationId, DocumentType documentType);
     List<LoanDocument> findByLoanApplicationIdAndVerifiedFalse(Long applicationId);
+
+    List<LoanDocument> findByLoanApplicationIdIn(Collection<Long> applicationIds);
+
+    @Modifying
+    @Query("DELETE FROM LoanDocument d WHERE d.loanApplication.id IN :applicationIds")
+    int deleteByLoanApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
+
+    @Query("SELECT d.loanApplication.id AS applicationId, COUNT(d) AS totalCount, " +
+           "SUM(CASE WHEN d.verified = true THEN 1 ELSE 0 END) AS verifiedCount " +
+           "FROM LoanDocument d WHERE d.loanApplication.id IN :applicationIds GROUP BY d.loanApplication.id")
+    List<DocumentCounts> countByLoanApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
+
+    interface DocumentCounts {
+        Long getApplicationId();
+        Long getTotalCount();
+        Long getVerifiedCount();
+    }
 }
@@ -0,0 +1,39 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.dto.OfficerNoteDTO;
+import com.loanapproval.entity.OfficerNote;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OfficerNoteRepository extends JpaRepository<OfficerNote, Long> {
+
+    /**
+     * Notes of one application read straight into DTOs, served by the (application, created_at, id) index
+     */
+    @Query(value = "SELECT new com.loanapproval.dto.OfficerNoteDTO(n.id, n.loanApplication.id, n.author, n.note, n.createdAt) " +
+            "FROM OfficerNote n WHERE n.loanApplication.id = :applicationId",
+            countQuery = "SELECT COUNT(n) FROM OfficerNote n WHERE n.loanApplication.id = :applicationId")
+    Page<OfficerNoteDTO> findNotes(@Param("applicationId") Long applicationId, Pageable pageable);
+
+    /**
+     * Native because the entity is immutable; only used when the application itself is deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM officer_notes WHERE loan_application_id = :applicationId", nativeQuery = true)
+    int deleteByApplicationId(@Param("applicationId") Long applicationId);
+
+    List<OfficerNote> findByLoanApplicationIdIn(Collection<Long> applicationIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM officer_notes WHERE loan_application_id IN :applicationIds", nativeQuery = true)
+    int deleteByApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
+}
@@ -0,0 +1,20 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.entity.ProcessingTimeSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProcessingTimeSketchRepository extends JpaRepository<ProcessingTimeSketch, LoanType> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProcessingTimeSketch s WHERE s.loanType = :loanType")
+    Optional<ProcessingTimeSketch> findForUpdate(@Param("loanType") LoanType loanType);
+}
@@ -2,12 +2,23 @@ package com.loanapproval.repository;
 
 import com.loanapproval.entity.RiskFactor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RiskFactorRepository extends JpaRepository<RiskFactor, Long> {
     List<RiskFactor> findByLoanApplicationId(Long applicationId);
+    List<RiskFactor> findByLoanApplicationIdOrderByCreatedAtDesc(Long applicationId);
     void deleteByLoanApplicationId(Long applicationId);
+
+    List<RiskFactor> findByLoanApplicationIdIn(Collection<Long> applicationIds);
+
+    @Modifying
+    @Query("DELETE FROM RiskFactor rf WHERE rf.loanApplication.id IN :applicationIds")
+    int deleteByLoanApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
 }
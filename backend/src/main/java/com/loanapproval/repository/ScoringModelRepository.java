@@ -0,0 +1,29 @@
+package com.loanapproval.repository;
+
+import com.loanapproval.entity.ScoringModel;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ScoringModelRepository extends JpaRepository<ScoringModel, Long> {
+    Optional<ScoringModel> findByVersion(Integer version);
+    Optional<ScoringModel> findFirstByActiveTrue();
+    Optional<ScoringModel> findTopByOrderByVersionDesc();
+    List<ScoringModel> findAllByOrderByVersionDesc();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM ScoringModel m ORDER BY m.id")
+    List<ScoringModel> findAllForUpdate();
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ScoringModel m SET m.active = false WHERE m.active = true AND m.id <> :id")
+    int deactivateAllExcept(@Param("id") Long id);
+}
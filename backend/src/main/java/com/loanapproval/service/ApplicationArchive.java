@@ -0,0 +1,79 @@
+package com.loanapproval.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanapproval.dto.ArchivedApplicationPayload;
+import com.loanapproval.entity.ArchivedApplication;
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Read and write side of the cold archive. Hot-table reads fall back to it for applications the
+ * archival job has moved out; archived records are immutable, so they are safe to cache like live ones.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationArchive {
+
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final ObjectMapper objectMapper;
+
+    public Optional<ArchivedApplicationPayload> findById(Long id) {
+        return archivedApplicationRepository.findById(id).map(this::decode);
+    }
+
+    public Optional<ArchivedApplicationPayload> findByApplicationId(String applicationId) {
+        return archivedApplicationRepository.findByApplicationId(applicationId).map(this::decode);
+    }
+
+    public Optional<LoanApplicationRepository.VersionView> findVersionById(Long id) {
+        return archivedApplicationRepository.findVersionById(id);
+    }
+
+    /**
+     * Build the archive row for a payload; the caller saves it in the same transaction that deletes the hot rows
+     */
+    public ArchivedApplication encode(ArchivedApplicationPayload payload, LocalDateTime archivedAt) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode archive of application " + payload.getApplication().getId(), e);
+        }
+
+        return ArchivedApplication.builder()
+                .id(payload.getApplication().getId())
+                .applicationId(payload.getApplication().getApplicationId())
+                .email(payload.getApplication().getEmail())
+                .status(payload.getApplication().getStatus())
+                .version(payload.getApplication().getVersion())
+                .loanType(payload.getApplication().getLoanType())
+                .employmentType(payload.getApplication().getEmploymentType())
+                .riskScore(payload.getApplication().getRiskScore())
+                .submittedAt(payload.getApplication().getSubmittedAt())
+                .reviewedAt(payload.getApplication().getReviewedAt())
+                .archivedAt(archivedAt)
+                .payload(bytes.toByteArray())
+                .build();
+    }
+
+    private ArchivedApplicationPayload decode(ArchivedApplication archived) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(archived.getPayload()))) {
+            return objectMapper.readValue(in, ArchivedApplicationPayload.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode archive of application " + archived.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.dto.ArchiveRunResultDTO;
+import com.loanapproval.dto.ArchivedApplicationPayload;
+import com.loanapproval.dto.AuditLogDTO;
+import com.loanapproval.entity.ArchivedApplication;
+import com.loanapproval.entity.AuditLog;
+import com.loanapproval.entity.LoanApplication;
+import com.loanapproval.entity.LoanDocument;
+import com.loanapproval.entity.OfficerNote;
+import com.loanapproval.entity.RiskFactor;
+import com.loanapproval.exception.ValidationException;
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.AuditLogRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import com.loanapproval.repository.LoanDocumentRepository;
+import com.loanapproval.repository.OfficerNoteRepository;
+import com.loanapproval.repository.RiskFactorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Moves APPROVED and REJECTED applications decided before the retention window, with their documents,
+ * risk factor history, audit log and notes, into archived_applications. Each batch is one transaction
+ * that locks the applications, writes the archive rows and deletes the hot rows, so an application is
+ * always in exactly one of the two places. Document files stay where they are on disk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationArchiveService {
+
+    private static final Set<LoanStatus> DECIDED = Set.of(LoanStatus.APPROVED, LoanStatus.REJECTED);
+
+    private final LoanApplicationRepository applicationRepository;
+    private final LoanDocumentRepository documentRepository;
+    private final RiskFactorRepository riskFactorRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final OfficerNoteRepository officerNoteRepository;
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final ApplicationArchive applicationArchive;
+    private final ApplicationSearchIndex applicationSearchIndex;
+    private final LoanApplicationService loanApplicationService;
+    private final DocumentService documentService;
+    private final RiskScoringService riskScoringService;
+    private final DecisionService decisionService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${applications.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${applications.archive.retention-days:365}")
+    private int retentionDays;
+
+    @Value("${applications.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${applications.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(fixedDelayString = "${applications.archive.interval-ms:3600000}",
+            initialDelayString = "${applications.archive.initial-delay-ms:60000}")
+    public void scheduledRun() {
+        if (enabled) {
+            archiveDecidedApplications(retentionDays);
+        }
+    }
+
+    /**
+     * Archive applications decided more than the given number of days ago, in bounded batches
+     */
+    public ArchiveRunResultDTO archiveDecidedApplications(int retentionDays) {
+        if (retentionDays < 0) {
+            throw new ValidationException("Retention days cannot be negative");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new ValidationException("Archival is already running");
+        }
+
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int archived = 0;
+        int batches = 0;
+        try {
+            while (batches < maxBatchesPerRun) {
+                Integer count = transactionTemplate.execute(status -> archiveBatch(cutoff));
+                if (count == null || count == 0) {
+                    break;
+                }
+                archived += count;
+                batches++;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        long durationMs = System.currentTimeMillis() - start;
+        if (archived > 0) {
+            log.info("Archived {} applications decided before {} in {} batches ({} ms)", archived, cutoff, batches, durationMs);
+        }
+        return ArchiveRunResultDTO.builder()
+                .cutoff(cutoff)
+                .archived(archived)
+                .batches(batches)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> candidateIds = applicationRepository.findIdsDecidedBefore(DECIDED, cutoff, PageRequest.of(0, batchSize));
+        if (candidateIds.isEmpty()) {
+            return 0;
+        }
+
+        // Re-check under the lock in case a candidate changed between the two queries
+        List<LoanApplication> applications = applicationRepository.findAllByIdForUpdate(candidateIds).stream()
+                .filter(application -> DECIDED.contains(application.getStatus())
+                        && application.getReviewedAt() != null && application.getReviewedAt().isBefore(cutoff))
+                .toList();
+        if (applications.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = applications.stream().map(LoanApplication::getId).toList();
+
+        Map<Long, List<LoanDocument>> documents = documentRepository.findByLoanApplicationIdIn(ids).stream()
+                .collect(Collectors.groupingBy(document -> document.getLoanApplication().getId()));
+        Map<Long, List<RiskFactor>> riskFactors = riskFactorRepository.findByLoanApplicationIdIn(ids).stream()
+                .collect(Collectors.groupingBy(factor -> factor.getLoanApplication().getId()));
+        Map<Long, List<AuditLog>> auditLogs = auditLogRepository.findByLoanApplicationIdIn(ids).stream()
+                .collect(Collectors.groupingBy(auditLog -> auditLog.getLoanApplication().getId()));
+        Map<Long, List<OfficerNote>> notes = officerNoteRepository.findByLoanApplicationIdIn(ids).stream()
+                .collect(Collectors.groupingBy(note -> note.getLoanApplication().getId()));
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        List<ArchivedApplication> archives = applications.stream()
+                .map(application -> applicationArchive.encode(ArchivedApplicationPayload.builder()
+                        .application(loanApplicationService.convertToDTO(application))
+                        .documents(documents.getOrDefault(application.getId(), List.of()).stream()
+                                .map(documentService::convertToDTO)
+                                .toList())
+                        .riskFactorHistory(riskFactors.getOrDefault(application.getId(), List.of()).stream()
+                                .sorted(Comparator.comparing(RiskFactor::getCreatedAt).reversed())
+                                .map(riskScoringService::convertToDTO)
+                                .toList())
+                        .auditLogs(auditLogs.getOrDefault(application.getId(), List.of()).stream()
+                                .sorted(Comparator.comparing(AuditLog::getCreatedAt))
+                                .map(this::convertToDTO)
+                                .toList())
+                        .officerNotes(notes.getOrDefault(application.getId(), List.of()).stream()
+                                .sorted(Comparator.comparing(OfficerNote::getCreatedAt))
+                                .map(note -> decisionService.convertToDTO(note, application.getId()))
+                                .toList())
+                        .build(), archivedAt))
+                .toList();
+        archivedApplicationRepository.saveAll(archives);
+
+        documentRepository.deleteByLoanApplicationIds(ids);
+        riskFactorRepository.deleteByLoanApplicationIds(ids);
+        auditLogRepository.deleteByLoanApplicationIds(ids);
+        officerNoteRepository.deleteByApplicationIds(ids);
+        applicationRepository.deleteByIds(ids);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(applicationSearchIndex::remove);
+            }
+        });
+        return ids.size();
+    }
+
+    private AuditLogDTO convertToDTO(AuditLog auditLog) {
+        return AuditLogDTO.builder()
+                .id(auditLog.getId())
+                .action(auditLog.getAction())
+                .performedBy(auditLog.getPerformedBy())
+                .changes(auditLog.getChanges())
+                .notes(auditLog.getNotes())
+                .createdAt(auditLog.getCreatedAt())
+                .build();
+    }
+}
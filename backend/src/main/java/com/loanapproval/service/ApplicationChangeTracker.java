@@ -0,0 +1,143 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.ApplicationEventType;
+import com.loanapproval.common.enums.DashboardScope;
+import com.loanapproval.dto.ApplicationEventDTO;
+import com.loanapproval.dto.DashboardDeltaDTO;
+import com.loanapproval.entity.LoanApplication;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single hook for writers that change an application's status, dimensions, risk score or existence.
+ * Once the transaction commits, the change is handed to the dashboard counters, trend rollups and
+ * processing time percentiles, evicts the cached dashboards it affects and is pushed to event
+ * subscribers, so rolled-back writes are never counted or announced.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationChangeTracker {
+
+    private final DashboardStatsEngine dashboardStatsEngine;
+    private final TrendRollupService trendRollupService;
+    private final ProcessingTimeService processingTimeService;
+    private final ApplicationEventBroadcaster applicationEventBroadcaster;
+    private final DashboardStatsCache dashboardStatsCache;
+
+    public void recordCreated(Collection<LoanApplication> applications) {
+        List<ApplicationSnapshot> created = applications.stream().map(ApplicationSnapshot::of).toList();
+        afterCommit(() -> {
+            // One dashboard delta for the whole batch
+            Map<String, Long> deltas = new LinkedHashMap<>();
+            created.forEach(snapshot -> apply(null, snapshot).forEach((name, delta) -> deltas.merge(name, delta, Long::sum)));
+            publishDashboardDelta(deltas);
+        });
+    }
+
+    /**
+     * A null side means the application did not exist before or no longer exists after the write
+     */
+    public void recordChange(ApplicationSnapshot before, ApplicationSnapshot after) {
+        afterCommit(() -> publishDashboardDelta(apply(before, after)));
+    }
+
+    private Map<String, Long> apply(ApplicationSnapshot before, ApplicationSnapshot after) {
+        Map<String, Long> deltas = dashboardStatsEngine.applyChange(before, after);
+        trendRollupService.applyChange(before, after);
+        processingTimeService.applyChange(before, after);
+        for (ApplicationSnapshot snapshot : new ApplicationSnapshot[] {before, after}) {
+            if (snapshot != null) {
+                dashboardStatsCache.evict(DashboardScope.OWN, snapshot.email());
+                dashboardStatsCache.evict(DashboardScope.ASSIGNED, snapshot.assignedOfficer());
+            }
+        }
+
+        ApplicationEventType type = getEventType(before, after);
+        if (type != null) {
+            ApplicationSnapshot current = after != null ? after : before;
+            applicationEventBroadcaster.publishApplicationEvent(ApplicationEventDTO.builder()
+                    .type(type)
+                    .id(current.id())
+                    .applicationId(current.applicationId())
+                    .status(current.status())
+                    .riskScore(current.riskScore())
+                    .occurredAt(LocalDateTime.now())
+                    .build(), current.email());
+        }
+        return deltas;
+    }
+
+    private void publishDashboardDelta(Map<String, Long> deltas) {
+        if (!deltas.isEmpty()) {
+            applicationEventBroadcaster.publishDashboardDelta(DashboardDeltaDTO.builder()
+                    .deltas(deltas)
+                    .stats(dashboardStatsEngine.getStats())
+                    .build());
+        }
+    }
+
+    private static ApplicationEventType getEventType(ApplicationSnapshot before, ApplicationSnapshot after) {
+        if (before == null) {
+            return ApplicationEventType.CREATED;
+        }
+        if (after == null) {
+            return ApplicationEventType.DELETED;
+        }
+        if (before.status() != after.status()) {
+            return switch (after.status()) {
+                case APPROVED -> ApplicationEventType.APPROVED;
+                case REJECTED -> ApplicationEventType.REJECTED;
+                case MANUAL_REVIEW -> ApplicationEventType.MANUAL_REVIEW;
+                case PENDING -> null;
+            };
+        }
+        boolean rescored = before.riskScore() == null
+                ? after.riskScore() != null
+                : after.riskScore() == null || before.riskScore().compareTo(after.riskScore()) != 0;
+        return rescored ? ApplicationEventType.SCORED : null;
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boolean locked = dashboardStatsEngine.lockForCommit();
+            try {
+                update.run();
+            } finally {
+                if (locked) {
+                    dashboardStatsEngine.unlockAfterCommit();
+                }
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Keeps the dashboard counters from being reconciled between the commit and the update
+                locked = dashboardStatsEngine.lockForCommit();
+            }
+
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (locked) {
+                    locked = false;
+                    dashboardStatsEngine.unlockAfterCommit();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.loanapproval.service;
+
+import com.loanapproval.exception.ValidationException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in the (submittedAt, id) ordering of applications, handed to clients as an opaque token.
+ * The token carries its sort direction so a cursor can only continue the listing it came from.
+ */
+record ApplicationCursor(Sort.Direction direction, LocalDateTime submittedAt, Long id) {
+
+    String encode() {
+        String raw = direction.name() + "|" + submittedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ApplicationCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new ApplicationCursor(Sort.Direction.valueOf(parts[0]), LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException ex) {
+            if (ex instanceof ValidationException validationException) {
+                throw validationException;
+            }
+            throw new ValidationException("Invalid cursor", ex);
+        }
+    }
+}
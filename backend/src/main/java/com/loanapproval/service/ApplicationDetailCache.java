@@ -0,0 +1,113 @@
+package com.loanapproval.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.loanapproval.config.ReplicaRoutingDataSource;
+import com.loanapproval.dto.CacheStatsDTO;
+import com.loanapproval.dto.LoanApplicationResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of application detail DTOs, reachable by database ID and by applicationId.
+ * Entries hold no authorization decision; callers check access on every read.
+ * Writers evict after their transaction commits. A load that started before an eviction is not
+ * cached, so a reader racing a commit cannot put the pre-commit state back. Loads for the cache
+ * read the primary: an entry loaded from a lagging replica would stay stale until the next write.
+ * Backed by Caffeine, so reads take no lock; only storing a load and evicting are serialized.
+ */
+@Component
+public class ApplicationDetailCache {
+
+    private final int maxSize;
+    private final ConcurrentStatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<Long, LoanApplicationResponseDTO> entries;
+    // An applicationId never changes, so a mapping left behind by an evicted entry just leads to a miss
+    private final Cache<String, Long> idsByApplicationId;
+    private volatile long generation;
+
+    public ApplicationDetailCache(@Value("${applications.detail-cache.max-size:1000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .recordStats(() -> statsCounter)
+                .build();
+        this.idsByApplicationId = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .build();
+    }
+
+    public LoanApplicationResponseDTO getById(Long id, Supplier<LoanApplicationResponseDTO> loader) {
+        long loadGeneration = generation;
+        LoanApplicationResponseDTO cached = entries.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return store(load(loader), loadGeneration);
+    }
+
+    public LoanApplicationResponseDTO getByApplicationId(String applicationId, Supplier<LoanApplicationResponseDTO> loader) {
+        long loadGeneration = generation;
+        Long id = idsByApplicationId.getIfPresent(applicationId);
+        if (id == null) {
+            statsCounter.recordMisses(1);
+        } else {
+            LoanApplicationResponseDTO cached = entries.getIfPresent(id);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return store(load(loader), loadGeneration);
+    }
+
+    /**
+     * Drop the application once the current transaction commits, or right away outside a transaction
+     */
+    public void evictAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    public synchronized void evict(Long id) {
+        generation++;
+        entries.invalidate(id);
+    }
+
+    public CacheStatsDTO getStats() {
+        CacheStats stats = entries.stats();
+        return CacheStatsDTO.builder()
+                .size((int) entries.estimatedSize())
+                .maxSize(maxSize)
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .hitRatio(stats.requestCount() == 0 ? 0.0 : stats.hitRate())
+                .build();
+    }
+
+    private LoanApplicationResponseDTO load(Supplier<LoanApplicationResponseDTO> loader) {
+        return maxSize > 0 ? ReplicaRoutingDataSource.onPrimary(loader) : loader.get();
+    }
+
+    private synchronized LoanApplicationResponseDTO store(LoanApplicationResponseDTO dto, long loadGeneration) {
+        if (maxSize > 0 && loadGeneration == generation) {
+            entries.put(dto.getId(), dto);
+            idsByApplicationId.put(dto.getApplicationId(), dto.getId());
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,262 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.UserRole;
+import com.loanapproval.dto.ApplicationEventDTO;
+import com.loanapproval.dto.DashboardDeltaDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes application lifecycle events and dashboard deltas to Server-Sent Events subscribers.
+ * Publishing only offers the event to each subscriber's bounded buffer and never waits on a
+ * connection; a small sender pool drains the buffers. A subscriber whose buffer is full is too slow
+ * to keep up and is disconnected, and must reload over REST when it reconnects. Customers only
+ * receive events about their own applications. Dashboard deltas carry the global statistics, which
+ * are the admin dashboard, so only admins receive them.
+ * A send blocks while the client's socket is full and cannot be interrupted; a subscriber whose send
+ * takes longer than the send timeout is disconnected and the pool gets an extra sender until that
+ * send returns, so dead connections never hold the threads other subscribers need.
+ */
+@Slf4j
+@Service
+public class ApplicationEventBroadcaster {
+
+    private static final String APPLICATION_EVENT = "application";
+    private static final String DASHBOARD_EVENT = "dashboard";
+
+    @Value("${events.subscriber-buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${events.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${events.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private ThreadPoolExecutor sender;
+    // Senders blocked on subscribers that were disconnected for exceeding the send timeout; guarded by this
+    private int stalledSenders;
+
+    private static final int OPEN = 0;
+    private static final int CLOSED = 1;
+    private static final int CLOSED_COMPLETE = 2;
+    private static final long STALLED = -1;
+
+    private record Event(long id, String name, Object data) {
+    }
+
+    @PostConstruct
+    void startSenders() {
+        // At most one drain task per subscriber is queued at a time
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("event-sender-"));
+    }
+
+    @PreDestroy
+    void stopSenders() {
+        subscribers.forEach(subscriber -> subscriber.close(false));
+        sender.shutdownNow();
+    }
+
+    public SseEmitter subscribe(String email, UserRole role) {
+        return subscribe(email, role, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(String email, UserRole role, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(email, role != UserRole.CUSTOMER, role == UserRole.ADMIN, emitter,
+                new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscriber.close(true));
+        emitter.onError(ex -> subscriber.close(false));
+        subscribers.add(subscriber);
+
+        // Commits the response headers so the client sees the stream open right away
+        subscriber.offer(new Event(0, null, "connected"));
+        return emitter;
+    }
+
+    void publishApplicationEvent(ApplicationEventDTO event, String ownerEmail) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Event sseEvent = new Event(sequence.incrementAndGet(), APPLICATION_EVENT, event);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.seesAll || subscriber.email.equals(ownerEmail)) {
+                subscriber.offer(sseEvent);
+            }
+        }
+    }
+
+    void publishDashboardDelta(DashboardDeltaDTO delta) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Event sseEvent = new Event(sequence.incrementAndGet(), DASHBOARD_EVENT, delta);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.seesDashboard) {
+                subscriber.offer(sseEvent);
+            }
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and finds clients that went away without closing
+     */
+    @Scheduled(fixedDelayString = "${events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        Event heartbeat = new Event(0, null, "heartbeat");
+        subscribers.forEach(subscriber -> subscriber.offer(heartbeat));
+    }
+
+    /**
+     * Disconnect subscribers whose current send has exceeded the send timeout
+     */
+    @Scheduled(fixedDelayString = "${events.stall-check-interval-ms:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt.get();
+            if (startedAt > 0 && now - startedAt > sendTimeoutMs && subscriber.sendStartedAt.compareAndSet(startedAt, STALLED)) {
+                log.warn("Disconnecting event subscriber {}: a send has been blocked for {} ms", subscriber.email, now - startedAt);
+                resizeSenders(1);
+                subscriber.close(true);
+            }
+        }
+    }
+
+    private synchronized void resizeSenders(int stalledDelta) {
+        stalledSenders += stalledDelta;
+        int size = senderThreads + stalledSenders;
+        // The maximum may never drop below the core size
+        if (stalledDelta > 0) {
+            sender.setMaximumPoolSize(size);
+            sender.setCorePoolSize(size);
+        } else {
+            sender.setCorePoolSize(size);
+            sender.setMaximumPoolSize(size);
+        }
+    }
+
+    private final class Subscriber {
+        private final String email;
+        private final boolean seesAll;
+        private final boolean seesDashboard;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger state = new AtomicInteger(OPEN);
+        // Wall clock millis when the send in progress began, 0 when idle, STALLED once evicted for it
+        private final AtomicLong sendStartedAt = new AtomicLong();
+
+        private Subscriber(String email, boolean seesAll, boolean seesDashboard, SseEmitter emitter, BlockingQueue<Event> buffer) {
+            this.email = email;
+            this.seesAll = seesAll;
+            this.seesDashboard = seesDashboard;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        void offer(Event event) {
+            if (state.get() != OPEN) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                log.warn("Disconnecting event subscriber {}: {} events behind", email, buffer.size());
+                close(true);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true) && !sender.isShutdown()) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /**
+         * Sends buffered events and, once closed, completes the emitter. Runs on one sender at a time per
+         * subscriber, so completing never waits on a send to the same connection.
+         */
+        private void drain() {
+            while (true) {
+                int current = state.get();
+                if (current != OPEN) {
+                    if (current == CLOSED_COMPLETE) {
+                        complete();
+                    }
+                    return;
+                }
+                Event event = buffer.poll();
+                if (event == null) {
+                    draining.set(false);
+                    // An offer or close may have slipped in after the poll but before the flag was cleared
+                    if ((buffer.isEmpty() && state.get() == OPEN) || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                sendStartedAt.set(System.currentTimeMillis());
+                try {
+                    emitter.send(event.name() == null
+                            ? SseEmitter.event().comment((String) event.data())
+                            : SseEmitter.event().id(Long.toString(event.id())).name(event.name()).data(event.data()));
+                } catch (IOException | IllegalStateException ex) {
+                    // The client went away; the container reports the error and completes the emitter
+                    close(false);
+                    return;
+                } finally {
+                    if (sendStartedAt.getAndSet(0) == STALLED) {
+                        resizeSenders(-1);
+                    }
+                }
+            }
+        }
+
+        private void complete() {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ex) {
+                log.debug("Could not complete event stream of {}: {}", email, ex.getMessage());
+            }
+        }
+
+        /**
+         * Stop delivering to this subscriber. Completing is left to its drain, which runs after any send
+         * still in progress on the connection.
+         */
+        void close(boolean complete) {
+            if (!state.compareAndSet(OPEN, complete ? CLOSED_COMPLETE : CLOSED)) {
+                return;
+            }
+            subscribers.remove(this);
+            buffer.clear();
+            if (complete) {
+                scheduleDrain();
+            }
+        }
+    }
+}
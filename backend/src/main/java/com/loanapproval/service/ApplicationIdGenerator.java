@@ -0,0 +1,12 @@
+package com.loanapproval.service;
+
+/**
+ * Source of the public applicationId handed out for new loan applications
+ */
+public interface ApplicationIdGenerator {
+
+    /**
+     * Return a new identifier, unique across all nodes sharing the database
+     */
+    String nextId();
+}
@@ -0,0 +1,31 @@
+package com.loanapproval.service;
+
+import java.util.List;
+
+/**
+ * Text index over applicant name, employer name and loan purpose.
+ * Implementations are chosen per database: PostgreSQL maintains its own index columns,
+ * the H2 dev profile keeps an inverted index in memory.
+ */
+public interface ApplicationSearchIndex {
+
+    /**
+     * Shorter query terms are ignored; a one-letter prefix would match most of the table
+     */
+    int MIN_TERM_LENGTH = 2;
+
+    /**
+     * Add or replace the indexed text of an application
+     */
+    void index(Long id, String applicantName, String employerName, String purpose);
+
+    void remove(Long id);
+
+    /**
+     * Application IDs matching every term of the query, best match first
+     */
+    SearchHits search(String query, int offset, int limit);
+
+    record SearchHits(List<Long> ids, long total) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.entity.LoanApplication;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The parts of an application that the dashboard counters and caches, trend rollups and live events
+ * depend on, captured before and after a write
+ */
+public record ApplicationSnapshot(Long id, String applicationId, String email, String assignedOfficer,
+                                  LoanStatus status, LoanType loanType, EmploymentType employmentType,
+                                  BigDecimal riskScore, LocalDateTime submittedAt, LocalDateTime reviewedAt) {
+
+    public static ApplicationSnapshot of(LoanApplication application) {
+        return new ApplicationSnapshot(application.getId(), application.getApplicationId(), application.getEmail(),
+                application.getAssignedOfficer(), application.getStatus(), application.getLoanType(),
+                application.getEmploymentType(), application.getRiskScore(), application.getSubmittedAt(),
+                application.getReviewedAt());
+    }
+}
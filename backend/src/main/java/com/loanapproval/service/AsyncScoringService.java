@@ -0,0 +1,218 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.ScoringStatus;
+import com.loanapproval.entity.AuditLog;
+import com.loanapproval.entity.LoanApplication;
+import com.loanapproval.repository.AuditLogRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import com.loanapproval.repository.LoanDocumentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scores submitted applications off the request thread.
+ * Application IDs are queued on a bounded pool. When the queue is full the application is left
+ * IN_PROGRESS and a periodic sweep queues it once the workers catch up, so neither request threads
+ * nor the retry thread ever score. Failed attempts are retried with exponential backoff and the
+ * application stays IN_PROGRESS until it is scored or marked FAILED.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncScoringService {
+
+    private final LoanApplicationRepository applicationRepository;
+    private final LoanDocumentRepository documentRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final RiskScoringService riskScoringService;
+    private final ApplicationDetailCache applicationDetailCache;
+    private final ApplicationChangeTracker applicationChangeTracker;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${risk.scoring.async-enabled:false}")
+    private boolean enabled;
+
+    @Value("${risk.scoring.workers:2}")
+    private int workers;
+
+    @Value("${risk.scoring.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${risk.scoring.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${risk.scoring.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    // Applications queued, being scored or waiting for a retry, so the sweep does not queue them twice
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService retryScheduler;
+
+    @PostConstruct
+    void startWorkers() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("async-scoring-"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("async-scoring-retry-"));
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        retryScheduler.shutdownNow();
+        executor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Number of applications waiting for a scoring worker
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Queue an application for scoring once the current transaction has committed,
+     * so workers never look for a row that is not visible yet
+     */
+    public void enqueueAfterCommit(Long applicationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(applicationId, 1);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(applicationId, 1);
+            }
+        });
+    }
+
+    /**
+     * Queue applications left IN_PROGRESS: those pending at startup (the first run) and those the full queue turned away
+     */
+    @Scheduled(fixedDelayString = "${risk.scoring.sweep-interval-ms:30000}")
+    public void resumePendingScoring() {
+        if (!enabled) {
+            return;
+        }
+        int queued = 0;
+        for (Long id : applicationRepository.findIdsByScoringStatus(ScoringStatus.IN_PROGRESS)) {
+            if (inFlight.contains(id)) {
+                continue;
+            }
+            if (!enqueue(id, 1)) {
+                break;
+            }
+            queued++;
+        }
+        if (queued > 0) {
+            log.info("Re-queued {} applications left IN_PROGRESS", queued);
+        }
+    }
+
+    private boolean enqueue(Long applicationId, int attempt) {
+        if (attempt == 1 && !inFlight.add(applicationId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> score(applicationId, attempt));
+            return true;
+        } catch (RejectedExecutionException ex) {
+            // Stays IN_PROGRESS for the next sweep
+            inFlight.remove(applicationId);
+            log.debug("Scoring queue is full, application {} waits for the next sweep", applicationId);
+            return false;
+        }
+    }
+
+    private void score(Long applicationId, int attempt) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        boolean retrying = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LoanApplication application = applicationRepository.findById(applicationId).orElse(null);
+                if (application == null || application.getScoringStatus() != ScoringStatus.IN_PROGRESS) {
+                    // Deleted or already scored in the meantime
+                    return;
+                }
+
+                List<LoanDocumentRepository.DocumentCounts> counts = documentRepository.countByLoanApplicationIds(List.of(applicationId));
+                long verified = counts.isEmpty() ? 0 : counts.get(0).getVerifiedCount();
+                long total = counts.isEmpty() ? 0 : counts.get(0).getTotalCount();
+
+                ApplicationSnapshot before = ApplicationSnapshot.of(application);
+                RiskScoreResult result = riskScoringService.scoreApplication(application, verified, total);
+                application.setScoringStatus(ScoringStatus.COMPLETED);
+                applicationDetailCache.evictAfterCommit(applicationId);
+                applicationChangeTracker.recordChange(before, ApplicationSnapshot.of(application));
+
+                createAuditLog(application, "RISK_SCORED",
+                        "Risk score " + result.getRiskScore() + " (model version " + result.getModelVersion() + ")");
+            });
+        } catch (RuntimeException ex) {
+            if (attempt < maxAttempts) {
+                long delay = retryBackoffMs << (attempt - 1);
+                log.warn("Scoring attempt {} for application {} failed, retrying in {} ms: {}",
+                        attempt, applicationId, delay, ex.getMessage());
+                retryScheduler.schedule(() -> enqueue(applicationId, attempt + 1), delay, TimeUnit.MILLISECONDS);
+                retrying = true;
+            } else {
+                log.error("Scoring failed for application {} after {} attempts", applicationId, attempt, ex);
+                markFailed(applicationId, ex.getMessage());
+            }
+        } finally {
+            if (!retrying) {
+                inFlight.remove(applicationId);
+            }
+        }
+    }
+
+    private void markFailed(Long applicationId, String reason) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    applicationRepository.findById(applicationId).ifPresent(application -> {
+                        application.setScoringStatus(ScoringStatus.FAILED);
+                        applicationDetailCache.evictAfterCommit(applicationId);
+                        createAuditLog(application, "RISK_SCORING_FAILED", "Risk scoring failed: " + reason);
+                    }));
+        } catch (RuntimeException ex) {
+            log.error("Could not mark application {} as FAILED", applicationId, ex);
+        }
+    }
+
+    private void createAuditLog(LoanApplication application, String action, String notes) {
+        AuditLog auditLog = AuditLog.builder()
+                .action(action)
+                .performedBy("system")
+                .notes(notes)
+                .loanApplication(application)
+                .createdAt(LocalDateTime.now())
+                .build();
+        auditLogRepository.save(auditLog);
+    }
+}
@@ -0,0 +1,151 @@
+package com.loanapproval.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loanapproval.dto.BulkIngestResultDTO;
+import com.loanapproval.dto.BulkIngestSummaryDTO;
+import com.loanapproval.dto.LoanApplicationRequestDTO;
+import com.loanapproval.entity.LoanApplication;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk application intake from NDJSON. The body is read one line at a time, so memory use is bounded
+ * by the chunk size rather than the request size. Valid records are stored a chunk per transaction;
+ * invalid ones are reported and skipped.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkIngestionService {
+
+    private final LoanApplicationService applicationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${applications.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Read and store every record of the stream, handing each result to the sink once its chunk is committed
+     */
+    public BulkIngestSummaryDTO ingest(InputStream body, String userEmail, Consumer<BulkIngestResultDTO> sink) throws IOException {
+        long startNanos = System.nanoTime();
+        long total = 0;
+        long succeeded = 0;
+
+        List<LoanApplicationRequestDTO> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            total++;
+
+            String error;
+            LoanApplicationRequestDTO request = null;
+            try {
+                request = objectMapper.readValue(line, LoanApplicationRequestDTO.class);
+                error = validate(request);
+            } catch (JsonProcessingException ex) {
+                error = "Malformed JSON: " + ex.getOriginalMessage();
+            }
+
+            if (error != null) {
+                sink.accept(failure(lineNumber, error));
+                continue;
+            }
+
+            chunk.add(request);
+            chunkLines.add(lineNumber);
+            if (chunk.size() == chunkSize) {
+                succeeded += flush(chunk, chunkLines, userEmail, sink);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            succeeded += flush(chunk, chunkLines, userEmail, sink);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("Bulk intake by {}: {} records, {} stored in {} ms", userEmail, total, succeeded, elapsedNanos / 1_000_000);
+
+        return BulkIngestSummaryDTO.builder()
+                .total(total)
+                .succeeded(succeeded)
+                .failed(total - succeeded)
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .recordsPerSecond(seconds > 0 ? Math.round(total / seconds * 100) / 100.0 : 0)
+                .build();
+    }
+
+    private long flush(List<LoanApplicationRequestDTO> chunk, List<Long> chunkLines, String userEmail,
+                       Consumer<BulkIngestResultDTO> sink) {
+        long stored = 0;
+        try {
+            List<LoanApplication> applications = applicationService.createApplications(chunk, userEmail);
+            for (int i = 0; i < applications.size(); i++) {
+                LoanApplication application = applications.get(i);
+                sink.accept(BulkIngestResultDTO.builder()
+                        .line(chunkLines.get(i))
+                        .success(true)
+                        .id(application.getId())
+                        .applicationId(application.getApplicationId())
+                        .riskScore(application.getRiskScore())
+                        .build());
+            }
+            stored = applications.size();
+        } catch (RuntimeException ex) {
+            // The chunk was rolled back as a whole
+            log.error("Bulk intake chunk of {} records failed", chunk.size(), ex);
+            for (Long line : chunkLines) {
+                sink.accept(failure(line, "Could not store record: " + ex.getMessage()));
+            }
+        }
+        chunk.clear();
+        chunkLines.clear();
+        return stored;
+    }
+
+    private String validate(LoanApplicationRequestDTO request) {
+        if (request == null) {
+            return "Application payload is required";
+        }
+        Set<ConstraintViolation<LoanApplicationRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private BulkIngestResultDTO failure(long line, String error) {
+        return BulkIngestResultDTO.builder()
+                .line(line)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
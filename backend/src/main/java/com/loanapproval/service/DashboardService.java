@@ -1,51 +1,69 @@
 package com.loanapproval.service;
 
+import com.loanapproval.common.enums.DashboardScope;
 import com.loanapproval.common.enums.LoanStatus;
 import com.loanapproval.common.enums.UserRole;
 import com.loanapproval.dto.DashboardStatsDTO;
+import com.loanapproval.repository.ArchivedApplicationRepository;
 import com.loanapproval.repository.LoanApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
+    private final DashboardStatsEngine dashboardStatsEngine;
+    private final DashboardStatsCache dashboardStatsCache;
     private final LoanApplicationRepository applicationRepository;
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final PlatformTransactionManager transactionManager;
 
-    public DashboardStatsDTO getDashboardStats(UserRole userRole) {
-        long totalApplications = applicationRepository.countTotal();
-        long pendingApplications = applicationRepository.countByStatus(LoanStatus.PENDING);
-        long approvedApplications = applicationRepository.countByStatus(LoanStatus.APPROVED);
-        long rejectedApplications = applicationRepository.countByStatus(LoanStatus.REJECTED);
-        long manualReviewApplications = applicationRepository.countByStatus(LoanStatus.MANUAL_REVIEW);
-
-        List<com.loanapproval.entity.LoanApplication> reviewedApplications =
-            applicationRepository.findByReviewedAtIsNotNull();
-        double avgProcessingTime = reviewedApplications.isEmpty()
-            ? 0.0
-            : reviewedApplications.stream()
-            .filter(app -> app.getSubmittedAt() != null && app.getReviewedAt() != null)
-            .mapToLong(app -> Duration.between(app.getSubmittedAt(), app.getReviewedAt()).toDays())
-            .average()
-            .orElse(0.0);
+    /**
+     * Customers see their own applications, officers the applications assigned to them and admins
+     * all applications. The global counters are kept in memory already, so only the per-principal
+     * scopes go through the cache.
+     */
+    public DashboardStatsDTO getDashboardStats(UserRole userRole, String userEmail) {
+        return switch (userRole) {
+            case CUSTOMER -> dashboardStatsCache.get(new DashboardStatsCache.ScopeKey(DashboardScope.OWN, userEmail),
+                    () -> computeStats(DashboardScope.OWN, userEmail));
+            case OFFICER -> dashboardStatsCache.get(new DashboardStatsCache.ScopeKey(DashboardScope.ASSIGNED, userEmail),
+                    () -> computeStats(DashboardScope.ASSIGNED, userEmail));
+            case ADMIN -> dashboardStatsEngine.getStats();
+        };
+    }
 
-        Double approvalRate = totalApplications > 0 ?
-                (approvedApplications * 100.0) / totalApplications : 0.0;
+    private DashboardStatsDTO computeStats(DashboardScope scope, String userEmail) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        List<LoanApplicationRepository.ScopedTotals> rows = transactionTemplate.execute(status -> {
+            if (scope == DashboardScope.ASSIGNED) {
+                // Archived applications have left every officer's queue
+                return applicationRepository.sumByStatusForAssignedOfficer(userEmail);
+            }
+            List<LoanApplicationRepository.ScopedTotals> totals = new ArrayList<>(applicationRepository.sumByStatusForEmail(userEmail));
+            totals.addAll(archivedApplicationRepository.sumByStatusForEmail(userEmail));
+            return totals;
+        });
 
-        return DashboardStatsDTO.builder()
-                .totalApplications(totalApplications)
-                .pendingApplications(pendingApplications)
-                .approvedApplications(approvedApplications)
-                .rejectedApplications(rejectedApplications)
-                .manualReviewApplications(manualReviewApplications)
-                .avgProcessingTime(Math.round(avgProcessingTime * 100.0) / 100.0)
-                .approvalRate(Math.round(approvalRate * 100.0) / 100.0)
-                .build();
+        Map<LoanStatus, Long> statusCounts = new EnumMap<>(LoanStatus.class);
+        long processed = 0;
+        long processedSeconds = 0;
+        for (LoanApplicationRepository.ScopedTotals row : rows) {
+            statusCounts.merge(row.getStatus(), row.getCount(), Long::sum);
+            processed += row.getProcessedCount() != null ? row.getProcessedCount().longValue() : 0;
+            processedSeconds += row.getSeconds() != null ? row.getSeconds().longValue() : 0;
+        }
+        return DashboardStatsEngine.buildStats(scope, statusCounts, processed, processedSeconds);
     }
 }
@@ -0,0 +1,88 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.DashboardScope;
+import com.loanapproval.dto.DashboardStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of scoped dashboard statistics, one entry per scope and principal. Concurrent
+ * requests for a missing or expired entry wait for a single load instead of each running the
+ * queries. Writers evict the scopes they touch once they commit; a load already running at that
+ * point still answers the requests waiting on it but is not kept.
+ */
+@Slf4j
+@Component
+public class DashboardStatsCache {
+
+    public record ScopeKey(DashboardScope scope, String principal) {
+    }
+
+    private record Entry(CompletableFuture<DashboardStatsDTO> stats, long loadStartedNanos) {
+    }
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<ScopeKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public DashboardStatsCache(@Value("${dashboard.cache.ttl-ms:5000}") long ttlMillis,
+                               @Value("${dashboard.cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.maxSize = maxSize;
+    }
+
+    public DashboardStatsDTO get(ScopeKey key, Supplier<DashboardStatsDTO> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry == null || isExpired(entry, now)) {
+            Entry created = new Entry(new CompletableFuture<>(), now);
+            entry = entries.compute(key, (k, current) -> current != null && !isExpired(current, now) ? current : created);
+            if (entry == created) {
+                load(key, created, loader, now);
+            }
+        }
+        return await(entry.stats());
+    }
+
+    public void evict(DashboardScope scope, String principal) {
+        if (principal != null) {
+            entries.remove(new ScopeKey(scope, principal));
+        }
+    }
+
+    private void load(ScopeKey key, Entry entry, Supplier<DashboardStatsDTO> loader, long now) {
+        if (entries.size() > maxSize) {
+            entries.values().removeIf(existing -> isExpired(existing, now));
+        }
+        try {
+            log.debug("Computing {} dashboard statistics for {}", key.scope(), key.principal());
+            entry.stats().complete(loader.get());
+        } catch (RuntimeException ex) {
+            entries.remove(key, entry);
+            entry.stats().completeExceptionally(ex);
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        // A load still running is never expired, so a slow load is not started again
+        return entry.stats().isDone() && now - entry.loadStartedNanos() > ttlNanos;
+    }
+
+    private static DashboardStatsDTO await(CompletableFuture<DashboardStatsDTO> stats) {
+        try {
+            return stats.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
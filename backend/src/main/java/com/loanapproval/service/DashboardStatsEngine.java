@@ -0,0 +1,324 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.DashboardScope;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.dto.DashboardStatsDTO;
+import com.loanapproval.entity.DashboardCounter;
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.DashboardCounterRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Dashboard counters: applications per status plus the number of reviewed applications and the sum of
+ * their processing times. The counters live in dashboard_counters, shared by all instances. Writers report
+ * each change through ApplicationChangeTracker once the transaction commits; the change is buffered here
+ * and periodically added to the stored values in place, which are then read back. Reading the dashboard
+ * costs no queries and sees this instance's changes at once and other instances' after the next sync.
+ * The counters are recomputed from the live and archived tables on startup. Correcting a drifted counter
+ * counts changes that other instances committed but have not synced yet twice, so the correction is only
+ * exact while they are idle. Archiving does not change any counter; archived applications keep counting.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardStatsEngine {
+
+    private static final String PROCESSED_COUNT = "processed.count";
+    private static final String PROCESSED_SECONDS = "processed.seconds";
+    private static final String STATUS_PREFIX = "status.";
+    // Bounds the wait of a committing writer; reconcile may need a pooled connection the writers hold
+    private static final long COMMIT_LOCK_TIMEOUT_MS = 1000;
+    private static final Map<LoanStatus, String> STAT_FIELDS = Map.of(
+            LoanStatus.PENDING, "pendingApplications",
+            LoanStatus.APPROVED, "approvedApplications",
+            LoanStatus.REJECTED, "rejectedApplications",
+            LoanStatus.MANUAL_REVIEW, "manualReviewApplications");
+
+    private final LoanApplicationRepository applicationRepository;
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final DashboardCounterRepository dashboardCounterRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // This instance's changes not yet added to dashboard_counters
+    private final Map<String, AtomicLong> pending = createCounters();
+    // dashboard_counters as last read; guarded by viewLock, which also keeps readers from seeing a
+    // synced change both there and in pending
+    private Map<String, Long> stored = Map.of();
+    private final ReadWriteLock viewLock = new ReentrantReadWriteLock();
+    // Shared by each tracked transaction from before its commit until its change is applied, exclusive
+    // while reconcile counts, so every change is either in the counts or applied after them
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+    private final Object syncLock = new Object();
+
+    /**
+     * Hold back reconcile until the change of the committing transaction has been applied; false when
+     * reconcile held the counters too long, in which case the change may be counted twice
+     */
+    boolean lockForCommit() {
+        try {
+            if (commitLock.readLock().tryLock(COMMIT_LOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("Dashboard counters busy reconciling; applying a change without waiting");
+        return false;
+    }
+
+    void unlockAfterCommit() {
+        commitLock.readLock().unlock();
+    }
+
+    /**
+     * Move an application between counters; called by ApplicationChangeTracker once the write commits.
+     * Returns the change of each affected DashboardStatsDTO count, keyed by field name.
+     */
+    Map<String, Long> applyChange(ApplicationSnapshot before, ApplicationSnapshot after) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        if (before != null) {
+            apply(before, -1);
+            deltas.merge("totalApplications", -1L, Long::sum);
+            deltas.merge(STAT_FIELDS.get(before.status()), -1L, Long::sum);
+        }
+        if (after != null) {
+            apply(after, 1);
+            deltas.merge("totalApplications", 1L, Long::sum);
+            deltas.merge(STAT_FIELDS.get(after.status()), 1L, Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    public DashboardStatsDTO getStats() {
+        Map<String, Long> values = current();
+        Map<LoanStatus, Long> statusCounts = new EnumMap<>(LoanStatus.class);
+        for (LoanStatus status : LoanStatus.values()) {
+            statusCounts.put(status, values.get(STATUS_PREFIX + status));
+        }
+        return buildStats(DashboardScope.ALL, statusCounts, values.get(PROCESSED_COUNT), values.get(PROCESSED_SECONDS));
+    }
+
+    /**
+     * Dashboard statistics from per-status counts and the total processing time of the reviewed applications
+     */
+    static DashboardStatsDTO buildStats(DashboardScope scope, Map<LoanStatus, Long> statusCounts, long processed, long processedSeconds) {
+        long total = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        long approved = statusCounts.getOrDefault(LoanStatus.APPROVED, 0L);
+
+        double avgProcessingDays = processed > 0 ? processedSeconds / (double) processed / 86_400 : 0.0;
+        double approvalRate = total > 0 ? (approved * 100.0) / total : 0.0;
+
+        return DashboardStatsDTO.builder()
+                .scope(scope)
+                .totalApplications(total)
+                .pendingApplications(statusCounts.getOrDefault(LoanStatus.PENDING, 0L))
+                .approvedApplications(approved)
+                .rejectedApplications(statusCounts.getOrDefault(LoanStatus.REJECTED, 0L))
+                .manualReviewApplications(statusCounts.getOrDefault(LoanStatus.MANUAL_REVIEW, 0L))
+                .avgProcessingTime(Math.round(avgProcessingDays * 100.0) / 100.0)
+                .approvalRate(Math.round(approvalRate * 100.0) / 100.0)
+                .build();
+    }
+
+    /**
+     * Recompute every counter from the database while no tracked change of this instance can commit and
+     * no instance can sync, and report how far the stored counters had drifted
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        synchronized (syncLock) {
+            Map<String, Long> saved = new HashMap<>();
+            Map<String, Long> unsynced;
+            Map<String, Long> actual;
+            commitLock.writeLock().lock();
+            try {
+                unsynced = snapshot(pending);
+                try {
+                    actual = countAndStore(saved);
+                } catch (DataIntegrityViolationException ex) {
+                    // Another instance created the counters first; now there are rows to lock
+                    saved.clear();
+                    actual = countAndStore(saved);
+                }
+                // Every change this instance committed so far is in the counts
+                viewLock.writeLock().lock();
+                try {
+                    stored = actual;
+                    pending.values().forEach(counter -> counter.set(0));
+                } finally {
+                    viewLock.writeLock().unlock();
+                }
+            } finally {
+                commitLock.writeLock().unlock();
+            }
+
+            List<String> drift = new ArrayList<>();
+            actual.forEach((name, value) -> {
+                Long expected = saved.containsKey(name) ? saved.get(name) + unsynced.get(name) : null;
+                if (!saved.isEmpty() && !value.equals(expected)) {
+                    drift.add(name + " " + expected + " -> " + value);
+                }
+            });
+
+            if (drift.isEmpty()) {
+                log.info("Dashboard counters reconciled with the database: {}", actual);
+            } else {
+                log.warn("Dashboard counters drifted from the database and were corrected: {}", drift);
+            }
+        }
+    }
+
+    /**
+     * Overwrite the stored counters with counts from the database, holding their row locks so no instance
+     * syncs in between; fills saved with the values they had
+     */
+    private Map<String, Long> countAndStore(Map<String, Long> saved) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Map<String, DashboardCounter> rows = new HashMap<>();
+            dashboardCounterRepository.findAllForUpdate().forEach(row -> rows.put(row.getName(), row));
+            rows.forEach((name, row) -> saved.put(name, row.getValue()));
+
+            Map<String, Long> counted = countFromDatabase();
+            LocalDateTime now = LocalDateTime.now();
+            counted.forEach((name, value) -> {
+                DashboardCounter row = rows.computeIfAbsent(name, key -> new DashboardCounter(key, 0, now));
+                row.setValue(value);
+                row.setUpdatedAt(now);
+            });
+            dashboardCounterRepository.saveAll(rows.values());
+            return counted;
+        });
+    }
+
+    /**
+     * Add this instance's buffered changes to dashboard_counters and read back every instance's
+     */
+    @Scheduled(fixedDelayString = "${dashboard.stats.sync-interval-ms:2000}")
+    public void sync() {
+        synchronized (syncLock) {
+            // Name order, so instances lock the rows in the same order
+            Map<String, Long> batch = new TreeMap<>();
+            snapshot(pending).forEach((name, delta) -> {
+                if (delta != 0) {
+                    batch.put(name, delta);
+                }
+            });
+
+            Map<String, Long> read;
+            try {
+                read = new TransactionTemplate(transactionManager).execute(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    batch.forEach((name, delta) -> {
+                        if (dashboardCounterRepository.addToValue(name, delta, now) == 0) {
+                            dashboardCounterRepository.save(new DashboardCounter(name, delta, now));
+                        }
+                    });
+                    Map<String, Long> values = new HashMap<>();
+                    dashboardCounterRepository.findAll().forEach(row -> values.put(row.getName(), row.getValue()));
+                    return values;
+                });
+            } catch (RuntimeException ex) {
+                // Kept for the next sync, e.g. when another instance inserted the same counter first
+                log.warn("Could not sync {} dashboard counter changes, will retry: {}", batch.size(), ex.getMessage());
+                return;
+            }
+
+            viewLock.writeLock().lock();
+            try {
+                stored = read;
+                batch.forEach((name, delta) -> pending.get(name).addAndGet(-delta));
+            } finally {
+                viewLock.writeLock().unlock();
+            }
+        }
+    }
+
+    @PreDestroy
+    void syncOnShutdown() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Could not sync dashboard counters on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, Long> countFromDatabase() {
+        Map<String, Long> actual = new LinkedHashMap<>();
+        pending.keySet().forEach(name -> actual.put(name, 0L));
+
+        List<LoanApplicationRepository.StatusCount> statusCounts = new ArrayList<>(applicationRepository.countGroupedByStatus());
+        statusCounts.addAll(archivedApplicationRepository.countGroupedByStatus());
+        statusCounts.forEach(row -> actual.merge(STATUS_PREFIX + row.getStatus(), row.getCount(), Long::sum));
+
+        for (LoanApplicationRepository.ProcessingTotals totals : List.of(
+                applicationRepository.sumProcessingTime(), archivedApplicationRepository.sumProcessingTime())) {
+            actual.merge(PROCESSED_COUNT, totals.getCount(), Long::sum);
+            actual.merge(PROCESSED_SECONDS, totals.getSeconds() != null ? totals.getSeconds().longValue() : 0L, Long::sum);
+        }
+        return actual;
+    }
+
+    private void apply(ApplicationSnapshot snapshot, int sign) {
+        pending.get(STATUS_PREFIX + snapshot.status()).addAndGet(sign);
+        if (snapshot.submittedAt() != null && snapshot.reviewedAt() != null) {
+            pending.get(PROCESSED_COUNT).addAndGet(sign);
+            pending.get(PROCESSED_SECONDS).addAndGet(sign * Duration.between(snapshot.submittedAt(), snapshot.reviewedAt()).toSeconds());
+        }
+    }
+
+    /**
+     * Stored values plus this instance's changes that have not been synced yet
+     */
+    private Map<String, Long> current() {
+        viewLock.readLock().lock();
+        try {
+            Map<String, Long> values = new LinkedHashMap<>();
+            pending.forEach((name, counter) -> values.put(name, stored.getOrDefault(name, 0L) + counter.get()));
+            return values;
+        } finally {
+            viewLock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Long> snapshot(Map<String, AtomicLong> counters) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    private static Map<String, AtomicLong> createCounters() {
+        Map<String, AtomicLong> counters = new LinkedHashMap<>();
+        for (LoanStatus status : LoanStatus.values()) {
+            counters.put(STATUS_PREFIX + status, new AtomicLong());
+        }
+        counters.put(PROCESSED_COUNT, new AtomicLong());
+        counters.put(PROCESSED_SECONDS, new AtomicLong());
+        return counters;
+    }
+}
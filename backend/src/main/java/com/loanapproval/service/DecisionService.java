@@ -2,20 +2,34 @@ package com.loanapproval.service;
 
 import com.loanapproval.common.enums.LoanStatus;
 import com.loanapproval.dto.ApprovalRequestDTO;
+import com.loanapproval.dto.ArchivedApplicationPayload;
 import com.loanapproval.dto.ManualReviewRequestDTO;
+import com.loanapproval.dto.OfficerNoteDTO;
 import com.loanapproval.dto.RejectionRequestDTO;
 import com.loanapproval.entity.AuditLog;
 import com.loanapproval.entity.LoanApplication;
+import com.loanapproval.entity.OfficerNote;
 import com.loanapproval.exception.ApplicationNotFoundException;
 import com.loanapproval.exception.UnauthorizedException;
+import com.loanapproval.exception.ValidationException;
+import com.loanapproval.exception.VersionConflictException;
 import com.loanapproval.repository.AuditLogRepository;
 import com.loanapproval.repository.LoanApplicationRepository;
+import com.loanapproval.repository.OfficerNoteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -24,16 +38,25 @@ public class DecisionService {
 
     private final LoanApplicationRepository applicationRepository;
     private final AuditLogRepository auditLogRepository;
+    private final ApplicationDetailCache applicationDetailCache;
+    private final OfficerNoteRepository officerNoteRepository;
+    private final ApplicationChangeTracker applicationChangeTracker;
+    private final ApplicationArchive applicationArchive;
+
+    private static final int MAX_NOTES_PAGE_SIZE = 100;
 
     @Transactional
-    public void approveApplication(Long applicationId, ApprovalRequestDTO requestDTO, String approvedBy) {
+    public void approveApplication(Long applicationId, ApprovalRequestDTO requestDTO, String approvedBy, Long expectedVersion) {
         LoanApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
 
+        VersionConflictException.check(application.getId(), application.getVersion(), expectedVersion);
+
         if (application.getStatus() != LoanStatus.PENDING && application.getStatus() != LoanStatus.MANUAL_REVIEW) {
             throw new UnauthorizedException("Cannot approve application with status: " + application.getStatus());
         }
 
+        ApplicationSnapshot before = ApplicationSnapshot.of(application);
         application.setStatus(LoanStatus.APPROVED);
         application.setReviewedAt(LocalDateTime.now());
         application.setReviewedBy(approvedBy);
@@ -46,18 +69,24 @@ public class DecisionService {
         createAuditLog(application, "APPLICATION_APPROVED", approvedBy,
                 "Application approved. Notes: " + (requestDTO.getNotes() != null ? requestDTO.getNotes() : "None"));
 
+        applicationDetailCache.evictAfterCommit(applicationId);
+        applicationChangeTracker.recordChange(before, ApplicationSnapshot.of(application));
+
         log.info("Application {} approved by {}", applicationId, approvedBy);
     }
 
     @Transactional
-    public void rejectApplication(Long applicationId, RejectionRequestDTO requestDTO, String rejectedBy) {
+    public void rejectApplication(Long applicationId, RejectionRequestDTO requestDTO, String rejectedBy, Long expectedVersion) {
         LoanApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
 
+        VersionConflictException.check(application.getId(), application.getVersion(), expectedVersion);
+
         if (application.getStatus() != LoanStatus.PENDING && application.getStatus() != LoanStatus.MANUAL_REVIEW) {
             throw new UnauthorizedException("Cannot reject application with status: " + application.getStatus());
         }
 
+        ApplicationSnapshot before = ApplicationSnapshot.of(application);
         application.setStatus(LoanStatus.REJECTED);
         application.setReviewedAt(LocalDateTime.now());
         application.setReviewedBy(rejectedBy);
@@ -73,18 +102,24 @@ public class DecisionService {
 
         createAuditLog(application, "APPLICATION_REJECTED", rejectedBy, auditNotes);
 
+        applicationDetailCache.evictAfterCommit(applicationId);
+        applicationChangeTracker.recordChange(before, ApplicationSnapshot.of(application));
+
         log.info("Application {} rejected by {} with reason: {}", applicationId, rejectedBy, requestDTO.getReason());
     }
 
     @Transactional
-    public void requestManualReview(Long applicationId, ManualReviewRequestDTO requestDTO, String requestedBy) {
+    public void requestManualReview(Long applicationId, ManualReviewRequestDTO requestDTO, String requestedBy, Long expectedVersion) {
         LoanApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
 
+        VersionConflictException.check(application.getId(), application.getVersion(), expectedVersion);
+
         if (application.getStatus() != LoanStatus.PENDING) {
             throw new UnauthorizedException("Cannot request manual review for application with status: " + application.getStatus());
         }
 
+        ApplicationSnapshot before = ApplicationSnapshot.of(application);
         application.setStatus(LoanStatus.MANUAL_REVIEW);
         if (requestDTO.getAssignToOfficer() != null) {
             application.setAssignedOfficer(requestDTO.getAssignToOfficer());
@@ -102,22 +137,78 @@ public class DecisionService {
 
         createAuditLog(application, "MANUAL_REVIEW_REQUESTED", requestedBy, auditNotes);
 
+        applicationDetailCache.evictAfterCommit(applicationId);
+        applicationChangeTracker.recordChange(before, ApplicationSnapshot.of(application));
+
         log.info("Manual review requested for application {} by {}", applicationId, requestedBy);
     }
 
+    /**
+     * Append a note as its own row. The application row is neither read nor rewritten, so concurrent notes
+     * cannot overwrite each other and the cost does not grow with the number of earlier notes.
+     */
     @Transactional
-    public void addOfficerNotes(Long applicationId, String notes, String addedBy) {
-        LoanApplication application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
+    public OfficerNoteDTO addOfficerNote(Long applicationId, String note, String addedBy) {
+        if (note == null || note.isBlank()) {
+            throw new ValidationException("Note text is required");
+        }
+
+        OfficerNote officerNote = OfficerNote.builder()
+                .author(addedBy)
+                .note(note)
+                .loanApplication(applicationRepository.getReferenceById(applicationId))
+                .createdAt(LocalDateTime.now())
+                .build();
+        try {
+            // The foreign key stands in for an existence check on the application
+            officerNote = officerNoteRepository.saveAndFlush(officerNote);
+        } catch (DataIntegrityViolationException e) {
+            throw new ApplicationNotFoundException("Application not found");
+        }
 
-        String existingNotes = application.getOfficerNotes() != null ? application.getOfficerNotes() : "";
-        application.setOfficerNotes(existingNotes + "\n[" + LocalDateTime.now() + " by " + addedBy + "]: " + notes);
+        log.info("Note added to application {} by {}", applicationId, addedBy);
+        return convertToDTO(officerNote, applicationId);
+    }
 
-        applicationRepository.save(application);
+    /**
+     * Page through the notes of an application, newest first unless the pageable sorts otherwise
+     */
+    @Transactional(readOnly = true)
+    public Page<OfficerNoteDTO> getOfficerNotes(Long applicationId, int page, int size, Sort.Direction direction) {
+        if (size < 1 || size > MAX_NOTES_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_NOTES_PAGE_SIZE);
+        }
 
-        createAuditLog(application, "NOTES_ADDED", addedBy, "Officer notes added: " + notes);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, "createdAt").and(Sort.by(direction, "id")));
+        Page<OfficerNoteDTO> notes = officerNoteRepository.findNotes(applicationId, pageable);
+        if (notes.getTotalElements() == 0 && !applicationRepository.existsById(applicationId)) {
+            // Archived applications keep their notes in the archive
+            ArchivedApplicationPayload archived = applicationArchive.findById(applicationId)
+                    .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
+            return pageOf(archived.getOfficerNotes(), pageable, direction);
+        }
+        return notes;
+    }
 
-        log.info("Notes added to application {} by {}", applicationId, addedBy);
+    private static Page<OfficerNoteDTO> pageOf(List<OfficerNoteDTO> notes, Pageable pageable, Sort.Direction direction) {
+        Comparator<OfficerNoteDTO> order = Comparator.comparing(OfficerNoteDTO::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(OfficerNoteDTO::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+        List<OfficerNoteDTO> sorted = (notes != null ? notes : List.<OfficerNoteDTO>of()).stream()
+                .sorted(direction == Sort.Direction.DESC ? order.reversed() : order)
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(sorted.subList(from, to), pageable, sorted.size());
+    }
+
+    OfficerNoteDTO convertToDTO(OfficerNote officerNote, Long applicationId) {
+        return OfficerNoteDTO.builder()
+                .id(officerNote.getId())
+                .applicationId(applicationId)
+                .author(officerNote.getAuthor())
+                .note(officerNote.getNote())
+                .createdAt(officerNote.getCreatedAt())
+                .build();
     }
 
     private void createAuditLog(LoanApplication application, String action, String performedBy, String notes) {
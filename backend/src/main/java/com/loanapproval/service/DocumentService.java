@@ -1,6 +1,7 @@
 package com.loanapproval.service;
 
 import com.loanapproval.common.enums.DocumentType;
+import com.loanapproval.dto.ArchivedApplicationPayload;
 import com.loanapproval.dto.LoanDocumentDTO;
 import com.loanapproval.entity.LoanApplication;
 import com.loanapproval.entity.LoanDocument;
@@ -32,6 +33,7 @@ public class DocumentService {
 
     private final LoanApplicationRepository applicationRepository;
     private final LoanDocumentRepository documentRepository;
+    private final ApplicationArchive applicationArchive;
 
     @Value("${file.upload.dir:./uploads}")
     private String uploadDir;
@@ -133,11 +135,19 @@ public class DocumentService {
         log.info("Document {} deleted", documentId);
     }
 
+    @Transactional(readOnly = true)
     public List<LoanDocumentDTO> getDocumentsByApplicationId(Long applicationId) {
-        return documentRepository.findByLoanApplicationId(applicationId)
+        List<LoanDocumentDTO> documents = documentRepository.findByLoanApplicationId(applicationId)
                 .stream()
                 .map(this::convertToDTO)
                 .toList();
+        if (documents.isEmpty() && !applicationRepository.existsById(applicationId)) {
+            // Archived applications keep their document metadata in the archive
+            return applicationArchive.findById(applicationId)
+                    .map(ArchivedApplicationPayload::getDocuments)
+                    .orElse(List.of());
+        }
+        return documents;
     }
 
     private void validateFile(MultipartFile file) {
@@ -169,7 +179,7 @@ public class DocumentService {
         return UUID.randomUUID().toString() + extension;
     }
 
-    private LoanDocumentDTO convertToDTO(LoanDocument document) {
+    LoanDocumentDTO convertToDTO(LoanDocument document) {
         return LoanDocumentDTO.builder()
                 .id(document.getId())
                 .fileName(document.getFileName())
@@ -0,0 +1,127 @@
+package com.loanapproval.service;
+
+import com.loanapproval.repository.LoanApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Inverted index for the H2 dev profile. Tokens are kept sorted so a query term matches every
+ * token it is a prefix of ("jan" finds "janet"). A hit in the applicant name outranks one in the
+ * employer name, which outranks one in the purpose; whole-token matches count double.
+ * Built from the database at startup and updated as applications are written.
+ */
+@Slf4j
+@Component
+@Profile("dev")
+@RequiredArgsConstructor
+public class InMemoryApplicationSearchIndex implements ApplicationSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int EMPLOYER_WEIGHT = 2;
+    private static final int PURPOSE_WEIGHT = 1;
+
+    private final LoanApplicationRepository applicationRepository;
+
+    /**
+     * token -> (application id -> best field weight the token occurs in)
+     */
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<String>> tokensById = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuild() {
+        List<LoanApplicationRepository.SearchFields> rows = applicationRepository.findSearchFields();
+        rows.forEach(row -> index(row.getId(), row.getApplicantName(), row.getEmployerName(), row.getPurpose()));
+        log.info("Search index built for {} applications ({} distinct tokens)", rows.size(), postings.size());
+    }
+
+    @Override
+    public synchronized void index(Long id, String applicantName, String employerName, String purpose) {
+        remove(id);
+
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(purpose).forEach(token -> weights.merge(token, PURPOSE_WEIGHT, Math::max));
+        tokenize(employerName).forEach(token -> weights.merge(token, EMPLOYER_WEIGHT, Math::max));
+        tokenize(applicantName).forEach(token -> weights.merge(token, NAME_WEIGHT, Math::max));
+
+        weights.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new ConcurrentHashMap<>()).put(id, weight));
+        tokensById.put(id, weights.keySet());
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        Set<String> tokens = tokensById.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            postings.computeIfPresent(token, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    @Override
+    public SearchHits search(String query, int offset, int limit) {
+        List<String> terms = tokenize(query).stream().filter(term -> term.length() >= MIN_TERM_LENGTH).distinct().toList();
+        if (terms.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String term : terms) {
+            Map<Long, Integer> termScores = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Integer>> posting
+                    : postings.subMap(term, true, term + Character.MAX_VALUE, false).entrySet()) {
+                int multiplier = posting.getKey().equals(term) ? 2 : 1;
+                posting.getValue().forEach((id, weight) -> termScores.merge(id, weight * multiplier, Math::max));
+            }
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                // Every term must match
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return new SearchHits(List.of(), 0);
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+
+        List<Long> ids = ranked.stream().skip(offset).limit(limit).map(Map.Entry::getKey).toList();
+        return new SearchHits(ids, ranked.size());
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -1,29 +1,56 @@
 package com.loanapproval.service;
 
 import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.RiskFactorType;
+import com.loanapproval.common.enums.ScoringStatus;
+import com.loanapproval.dto.ApplicationFilterDTO;
+import com.loanapproval.dto.ArchivedApplicationPayload;
+import com.loanapproval.dto.CacheStatsDTO;
+import com.loanapproval.dto.CursorPageDTO;
+import com.loanapproval.dto.LoanApplicationPatchDTO;
 import com.loanapproval.dto.LoanApplicationRequestDTO;
 import com.loanapproval.dto.LoanApplicationResponseDTO;
+import com.loanapproval.dto.LoanApplicationSummaryDTO;
 import com.loanapproval.entity.AuditLog;
 import com.loanapproval.entity.LoanApplication;
 import com.loanapproval.entity.LoanDocument;
+import com.loanapproval.entity.RiskFactor;
 import com.loanapproval.entity.User;
 import com.loanapproval.exception.ApplicationNotFoundException;
 import com.loanapproval.exception.UnauthorizedException;
+import com.loanapproval.exception.ValidationException;
+import com.loanapproval.exception.VersionConflictException;
 import com.loanapproval.repository.AuditLogRepository;
 import com.loanapproval.repository.LoanApplicationRepository;
+import com.loanapproval.repository.LoanApplicationSpecifications;
 import com.loanapproval.repository.LoanDocumentRepository;
+import com.loanapproval.repository.OfficerNoteRepository;
+import com.loanapproval.repository.RiskFactorRepository;
 import com.loanapproval.repository.UserRepository;
 import com.loanapproval.common.enums.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,95 +63,223 @@ public class LoanApplicationService {
     private final AuditLogRepository auditLogRepository;
     private final UserRepository userRepository;
     private final RiskScoringService riskScoringService;
+    private final AsyncScoringService asyncScoringService;
+    private final RiskFactorRepository riskFactorRepository;
+    private final OfficerNoteRepository officerNoteRepository;
+    private final ApplicationIdGenerator applicationIdGenerator;
+    private final ApplicationDetailCache applicationDetailCache;
+    private final ApplicationSearchIndex applicationSearchIndex;
+    private final ApplicationArchive applicationArchive;
+    private final ApplicationChangeTracker applicationChangeTracker;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Transactional
     public LoanApplicationResponseDTO createApplication(LoanApplicationRequestDTO requestDTO, String userEmail) {
         // log.info("Creating loan application for email: {}", userEmail);
 
-        LoanApplication application = LoanApplication.builder()
-                .applicationId(generateApplicationId())
-                .applicantName(requestDTO.getApplicantName())
-                .email(requestDTO.getEmail())
-                .phone(requestDTO.getPhone())
-                .loanType(requestDTO.getLoanType())
-                .loanAmount(requestDTO.getLoanAmount())
-                .loanTerm(requestDTO.getLoanTerm())
-                .purpose(requestDTO.getPurpose())
-                .annualIncome(requestDTO.getAnnualIncome())
-                .monthlyExpenses(requestDTO.getMonthlyExpenses())
-                .creditScore(requestDTO.getCreditScore())
-                .existingDebts(requestDTO.getExistingDebts())
-                .employmentType(requestDTO.getEmploymentType())
-                .employmentDuration(requestDTO.getEmploymentDuration())
-                .employerName(requestDTO.getEmployerName())
-                .status(LoanStatus.PENDING)
-                .submittedAt(LocalDateTime.now())
-                .build();
+        LoanApplication application = buildApplication(requestDTO);
 
-        application = applicationRepository.save(application);
+        if (asyncScoringService.isEnabled()) {
+            // Score on a worker once committed; the caller sees IN_PROGRESS until then
+            application.setScoringStatus(ScoringStatus.IN_PROGRESS);
+            application = applicationRepository.save(application);
+            asyncScoringService.enqueueAfterCommit(application.getId());
+        } else {
+            application = applicationRepository.save(application);
 
-        // Calculate risk score
-        var riskScoreMap = riskScoringService.calculateRiskScore(application, 0);
-        application.setRiskScore((java.math.BigDecimal) riskScoreMap.get("riskScore"));
-        application = applicationRepository.save(application);
+            // Calculate risk score
+            var riskScoreMap = riskScoringService.calculateRiskScore(application, 0);
+            application.setRiskScore((java.math.BigDecimal) riskScoreMap.get("riskScore"));
+            application.setScoringStatus(ScoringStatus.COMPLETED);
+            application = applicationRepository.save(application);
+        }
 
         // Log audit entry
         createAuditLog(application, "APPLICATION_CREATED", userEmail, "Loan application created");
+        indexAfterCommit(application);
+        applicationChangeTracker.recordCreated(List.of(application));
 
         log.info("Application created successfully with ID: {}", application.getApplicationId());
         return convertToDTO(application);
     }
 
-    public Page<LoanApplicationResponseDTO> getApplications(String userEmail, UserRole userRole, Pageable pageable) {
-        Page<LoanApplication> applications;
+    /**
+     * Insert a chunk of already validated applications in one transaction. Scoring runs in memory and
+     * applications, risk factor history and audit rows are written with saveAll so Hibernate can
+     * group the inserts into JDBC batches.
+     */
+    @Transactional
+    public List<LoanApplication> createApplications(List<LoanApplicationRequestDTO> requests, String userEmail) {
+        List<LoanApplication> applications = new ArrayList<>(requests.size());
+        List<RiskFactor> riskFactors = new ArrayList<>();
+        for (LoanApplicationRequestDTO requestDTO : requests) {
+            LoanApplication application = buildApplication(requestDTO);
+            RiskScoreResult result = riskScoringService.evaluate(application, 0, 0);
+            riskScoringService.applyResult(application, result);
+            application.setScoringStatus(ScoringStatus.COMPLETED);
+            if (riskScoringService.isHistoryEnabled()) {
+                riskFactors.addAll(riskScoringService.buildRiskFactors(result, application));
+            }
+            applications.add(application);
+        }
+
+        applications = applicationRepository.saveAll(applications);
+        applications.forEach(this::indexAfterCommit);
+        applicationChangeTracker.recordCreated(applications);
+        riskFactorRepository.saveAll(riskFactors);
+
+        LocalDateTime now = LocalDateTime.now();
+        auditLogRepository.saveAll(applications.stream()
+                .map(application -> AuditLog.builder()
+                        .action("APPLICATION_CREATED")
+                        .performedBy(userEmail)
+                        .notes("Loan application created via bulk intake")
+                        .loanApplication(application)
+                        .createdAt(now)
+                        .build())
+                .toList());
+
+        return applications;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<LoanApplicationSummaryDTO> getApplications(String userEmail, UserRole userRole, ApplicationFilterDTO filter,
+                                                           Pageable pageable) {
+        Specification<LoanApplication> specification = LoanApplicationSpecifications.matching(filter);
 
         if (userRole == UserRole.CUSTOMER) {
             // Customers can only see their own applications
-            applications = applicationRepository.findByEmail(userEmail, pageable);
-        } else if (userRole == UserRole.OFFICER || userRole == UserRole.ADMIN) {
-            // Officers and Admins can see all applications
-            applications = applicationRepository.findAll(pageable);
-        } else {
+            specification = specification.and(LoanApplicationSpecifications.hasEmail(userEmail));
+        } else if (userRole != UserRole.OFFICER && userRole != UserRole.ADMIN) {
             throw new UnauthorizedException("Invalid user role");
         }
 
-        return applications.map(this::convertToDTO);
+        return applicationRepository.searchSummaries(specification, pageable);
     }
 
+    /**
+     * Keyset page over (submittedAt, id). Every page costs one index range scan regardless of depth;
+     * the total is only counted when asked for.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<LoanApplicationSummaryDTO> getApplicationsByCursor(String userEmail, UserRole userRole, String cursor,
+                                                                             int size, Sort.Direction direction, boolean includeTotal) {
+        if (userRole != UserRole.CUSTOMER && userRole != UserRole.OFFICER && userRole != UserRole.ADMIN) {
+            throw new UnauthorizedException("Invalid user role");
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        boolean ownOnly = userRole == UserRole.CUSTOMER;
+
+        ApplicationCursor position = cursor == null || cursor.isBlank() ? null : ApplicationCursor.decode(cursor);
+        if (position != null) {
+            direction = position.direction();
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        Pageable limit = PageRequest.of(0, size + 1, Sort.by(direction, "submittedAt").and(Sort.by(direction, "id")));
+        List<LoanApplicationSummaryDTO> rows;
+        if (position == null) {
+            rows = ownOnly ? applicationRepository.findFirstPageByEmail(userEmail, limit) : applicationRepository.findFirstPage(limit);
+        } else if (direction == Sort.Direction.DESC) {
+            rows = ownOnly
+                    ? applicationRepository.findPageByEmailBefore(userEmail, position.submittedAt(), position.id(), limit)
+                    : applicationRepository.findPageBefore(position.submittedAt(), position.id(), limit);
+        } else {
+            rows = ownOnly
+                    ? applicationRepository.findPageByEmailAfter(userEmail, position.submittedAt(), position.id(), limit)
+                    : applicationRepository.findPageAfter(position.submittedAt(), position.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<LoanApplicationSummaryDTO> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            LoanApplicationSummaryDTO last = page.get(page.size() - 1);
+            nextCursor = new ApplicationCursor(direction, last.getSubmittedAt(), last.getId()).encode();
+        }
+
+        Long total = null;
+        if (includeTotal) {
+            total = ownOnly ? applicationRepository.countByEmail(userEmail) : applicationRepository.countTotal();
+        }
+
+        return CursorPageDTO.<LoanApplicationSummaryDTO>builder()
+                .content(page)
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(total)
+                .build();
+    }
+
+    public CacheStatsDTO getDetailCacheStats() {
+        return applicationDetailCache.getStats();
+    }
+
+    @Transactional(readOnly = true)
     public LoanApplicationResponseDTO getApplicationById(Long applicationId, String userEmail, UserRole userRole) {
-        LoanApplication application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId));
+        LoanApplicationResponseDTO application = applicationDetailCache.getById(applicationId, () ->
+                applicationRepository.findById(applicationId)
+                        .map(this::convertToDTO)
+                        .or(() -> applicationArchive.findById(applicationId).map(ArchivedApplicationPayload::getApplication))
+                        .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId)));
 
-        // Check authorization
+        // Check authorization, also for cached entries
         if (userRole == UserRole.CUSTOMER && !application.getEmail().equals(userEmail)) {
             throw new UnauthorizedException("You are not authorized to view this application");
         }
 
-        return convertToDTO(application);
+        return application;
     }
 
-    public LoanApplicationResponseDTO getApplicationByApplicationId(String applicationId, String userEmail, UserRole userRole) {
-        LoanApplication application = applicationRepository.findByApplicationId(applicationId)
+    /**
+     * Current version of an application, read without loading the row, for conditional GETs
+     */
+    public Long getApplicationVersion(Long applicationId, String userEmail, UserRole userRole) {
+        LoanApplicationRepository.VersionView view = applicationRepository.findVersionById(applicationId)
+                .or(() -> applicationArchive.findVersionById(applicationId))
                 .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId));
 
-        // Check authorization
+        if (userRole == UserRole.CUSTOMER && !view.getEmail().equals(userEmail)) {
+            throw new UnauthorizedException("You are not authorized to view this application");
+        }
+
+        return view.getVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public LoanApplicationResponseDTO getApplicationByApplicationId(String applicationId, String userEmail, UserRole userRole) {
+        LoanApplicationResponseDTO application = applicationDetailCache.getByApplicationId(applicationId, () ->
+                applicationRepository.findByApplicationId(applicationId)
+                        .map(this::convertToDTO)
+                        .or(() -> applicationArchive.findByApplicationId(applicationId).map(ArchivedApplicationPayload::getApplication))
+                        .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId)));
+
+        // Check authorization, also for cached entries
         if (userRole == UserRole.CUSTOMER && !application.getEmail().equals(userEmail)) {
             throw new UnauthorizedException("You are not authorized to view this application");
         }
 
-        return convertToDTO(application);
+        return application;
     }
 
     @Transactional
-    public LoanApplicationResponseDTO updateApplication(Long applicationId, LoanApplicationRequestDTO requestDTO, String userEmail) {
+    public LoanApplicationResponseDTO updateApplication(Long applicationId, LoanApplicationRequestDTO requestDTO, String userEmail,
+                                                        Long expectedVersion) {
         LoanApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
 
+        VersionConflictException.check(application.getId(), application.getVersion(), expectedVersion);
+
         // Only allow updates for pending applications
         if (application.getStatus() != LoanStatus.PENDING) {
             throw new UnauthorizedException("Cannot update application with status: " + application.getStatus());
         }
 
+        ApplicationSnapshot before = ApplicationSnapshot.of(application);
         application.setApplicantName(requestDTO.getApplicantName());
         application.setPhone(requestDTO.getPhone());
         application.setLoanType(requestDTO.getLoanType());
@@ -144,13 +299,133 @@ public class LoanApplicationService {
         // Recalculate risk score
         var riskScoreMap = riskScoringService.calculateRiskScore(application, getVerifiedDocCount(applicationId));
         application.setRiskScore((java.math.BigDecimal) riskScoreMap.get("riskScore"));
-        application = applicationRepository.save(application);
+        application.setScoringStatus(ScoringStatus.COMPLETED);
+        // Flush so the response carries the incremented version
+        application = applicationRepository.saveAndFlush(application);
 
         createAuditLog(application, "APPLICATION_UPDATED", userEmail, "Application details updated");
+        applicationDetailCache.evictAfterCommit(applicationId);
+        applicationChangeTracker.recordChange(before, ApplicationSnapshot.of(application));
+        indexAfterCommit(application);
+
+        return convertToDTO(application);
+    }
+
+    @Transactional
+    public LoanApplicationResponseDTO patchApplication(Long applicationId, LoanApplicationPatchDTO patchDTO, String userEmail,
+                                                       UserRole userRole, Long expectedVersion) {
+        LoanApplication application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
+
+        // Customers can only change their own applications
+        if (userRole == UserRole.CUSTOMER && !application.getEmail().equals(userEmail)) {
+            throw new UnauthorizedException("You are not authorized to update this application");
+        }
+
+        VersionConflictException.check(application.getId(), application.getVersion(), expectedVersion);
+
+        // Only allow updates for pending applications
+        if (application.getStatus() != LoanStatus.PENDING) {
+            throw new UnauthorizedException("Cannot update application with status: " + application.getStatus());
+        }
+
+        ApplicationSnapshot before = ApplicationSnapshot.of(application);
+        Set<String> changed = new LinkedHashSet<>();
+        patchField(changed, "applicantName", patchDTO.getApplicantName(), application.getApplicantName(), application::setApplicantName);
+        patchField(changed, "phone", patchDTO.getPhone(), application.getPhone(), application::setPhone);
+        patchField(changed, "loanType", patchDTO.getLoanType(), application.getLoanType(), application::setLoanType);
+        patchField(changed, "loanAmount", patchDTO.getLoanAmount(), application.getLoanAmount(), application::setLoanAmount);
+        patchField(changed, "loanTerm", patchDTO.getLoanTerm(), application.getLoanTerm(), application::setLoanTerm);
+        patchField(changed, "purpose", patchDTO.getPurpose(), application.getPurpose(), application::setPurpose);
+        patchField(changed, "annualIncome", patchDTO.getAnnualIncome(), application.getAnnualIncome(), application::setAnnualIncome);
+        patchField(changed, "monthlyExpenses", patchDTO.getMonthlyExpenses(), application.getMonthlyExpenses(), application::setMonthlyExpenses);
+        patchField(changed, "creditScore", patchDTO.getCreditScore(), application.getCreditScore(), application::setCreditScore);
+        patchField(changed, "existingDebts", patchDTO.getExistingDebts(), application.getExistingDebts(), application::setExistingDebts);
+        patchField(changed, "employmentType", patchDTO.getEmploymentType(), application.getEmploymentType(), application::setEmploymentType);
+        patchField(changed, "employmentDuration", patchDTO.getEmploymentDuration(), application.getEmploymentDuration(), application::setEmploymentDuration);
+        patchField(changed, "employerName", patchDTO.getEmployerName(), application.getEmployerName(), application::setEmployerName);
+
+        if (changed.isEmpty()) {
+            return convertToDTO(application);
+        }
+
+        // Rescore only the factors fed by the changed fields; fall back to a full score without a usable vector
+        Set<RiskFactorType> factors = riskScoringService.getAffectedFactors(changed);
+        if (!factors.isEmpty()) {
+            if (riskScoringService.rescoreFactors(application, factors) == null) {
+                riskScoringService.calculateRiskScore(application, getVerifiedDocCount(applicationId));
+            }
+            application.setScoringStatus(ScoringStatus.COMPLETED);
+        }
+        application.setUpdatedAt(LocalDateTime.now());
+
+        // Dynamic update: one statement with only the dirty columns, flushed so the response has the new version
+        application = applicationRepository.saveAndFlush(application);
+
+        createAuditLog(application, "APPLICATION_PATCHED", userEmail, "Fields updated: " + String.join(", ", changed));
+        applicationDetailCache.evictAfterCommit(applicationId);
+        applicationChangeTracker.recordChange(before, ApplicationSnapshot.of(application));
+        if (changed.contains("applicantName") || changed.contains("purpose") || changed.contains("employerName")) {
+            indexAfterCommit(application);
+        }
 
         return convertToDTO(application);
     }
 
+    /**
+     * Ranked text search over applicant name, employer name and purpose
+     */
+    @Transactional(readOnly = true)
+    public Page<LoanApplicationSummaryDTO> searchApplications(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query is required");
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        ApplicationSearchIndex.SearchHits hits = applicationSearchIndex.search(query, page * size, size);
+        Map<Long, LoanApplicationSummaryDTO> byId = applicationRepository.findSummariesByIdIn(hits.ids()).stream()
+                .collect(Collectors.toMap(LoanApplicationSummaryDTO::getId, Function.identity()));
+
+        // Keep the index's ranking; skip ids deleted since they were indexed
+        List<LoanApplicationSummaryDTO> content = hits.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(page, size), hits.total());
+    }
+
+    private void indexAfterCommit(LoanApplication application) {
+        Long id = application.getId();
+        String applicantName = application.getApplicantName();
+        String employerName = application.getEmployerName();
+        String purpose = application.getPurpose();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applicationSearchIndex.index(id, applicantName, employerName, purpose);
+            }
+        });
+    }
+
+    /**
+     * Apply a supplied patch value and record the field as changed when it differs from the current one.
+     * Amounts are compared by value so that 50000 and 50000.00 count as unchanged.
+     */
+    private static <T> void patchField(Set<String> changed, String field, T value, T current, Consumer<T> setter) {
+        if (value == null) {
+            return;
+        }
+        boolean same = value instanceof BigDecimal decimal && current instanceof BigDecimal currentDecimal
+                ? decimal.compareTo(currentDecimal) == 0
+                : value.equals(current);
+        if (!same) {
+            setter.accept(value);
+            changed.add(field);
+        }
+    }
+
     private long getVerifiedDocCount(Long applicationId) {
         return documentRepository.findByLoanApplicationId(applicationId)
                 .stream()
@@ -163,8 +438,17 @@ public class LoanApplicationService {
         LoanApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ApplicationNotFoundException("Application not found"));
 
+        officerNoteRepository.deleteByApplicationId(applicationId);
         applicationRepository.delete(application);
         createAuditLog(application, "APPLICATION_DELETED", userEmail, "Application deleted");
+        applicationDetailCache.evictAfterCommit(applicationId);
+        applicationChangeTracker.recordChange(ApplicationSnapshot.of(application), null);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applicationSearchIndex.remove(applicationId);
+            }
+        });
     }
 
     private void createAuditLog(LoanApplication application, String action, String performedBy, String notes) {
@@ -178,9 +462,10 @@ public class LoanApplicationService {
         auditLogRepository.save(auditLog);
     }
 
-    private LoanApplicationResponseDTO convertToDTO(LoanApplication application) {
+    LoanApplicationResponseDTO convertToDTO(LoanApplication application) {
         return LoanApplicationResponseDTO.builder()
                 .id(application.getId())
+                .version(application.getVersion())
                 .applicationId(application.getApplicationId())
                 .applicantName(application.getApplicantName())
                 .email(application.getEmail())
@@ -199,6 +484,8 @@ public class LoanApplicationService {
                 .dtiRatio(application.getDtiRatio())
                 .ltiRatio(application.getLtiRatio())
                 .riskScore(application.getRiskScore())
+                .riskModelVersion(application.getRiskModelVersion())
+                .scoringStatus(application.getScoringStatus())
                 .status(application.getStatus())
                 .submittedAt(application.getSubmittedAt())
                 .reviewedAt(application.getReviewedAt())
@@ -207,12 +494,31 @@ public class LoanApplicationService {
                 .aiExplanation(application.getAiExplanation())
                 .aiSuggestions(application.getAiSuggestions())
                 .officerNotes(application.getOfficerNotes())
+                .riskFactors(riskScoringService.getCurrentRiskFactors(application))
                 .createdAt(application.getCreatedAt())
                 .updatedAt(application.getUpdatedAt())
                 .build();
     }
 
-    private String generateApplicationId() {
-        return "LA-" + System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    private LoanApplication buildApplication(LoanApplicationRequestDTO requestDTO) {
+        return LoanApplication.builder()
+                .applicationId(applicationIdGenerator.nextId())
+                .applicantName(requestDTO.getApplicantName())
+                .email(requestDTO.getEmail())
+                .phone(requestDTO.getPhone())
+                .loanType(requestDTO.getLoanType())
+                .loanAmount(requestDTO.getLoanAmount())
+                .loanTerm(requestDTO.getLoanTerm())
+                .purpose(requestDTO.getPurpose())
+                .annualIncome(requestDTO.getAnnualIncome())
+                .monthlyExpenses(requestDTO.getMonthlyExpenses())
+                .creditScore(requestDTO.getCreditScore())
+                .existingDebts(requestDTO.getExistingDebts())
+                .employmentType(requestDTO.getEmploymentType())
+                .employmentDuration(requestDTO.getEmploymentDuration())
+                .employerName(requestDTO.getEmployerName())
+                .status(LoanStatus.PENDING)
+                .submittedAt(LocalDateTime.now())
+                .build();
     }
 }
@@ -0,0 +1,72 @@
+package com.loanapproval.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search on PostgreSQL. A generated tsvector column (name weighted A, employer B, purpose C)
+ * with a GIN index answers prefix term queries, so every term must match as in the dev index.
+ * Matches are ranked by ts_rank, newest first on ties, and need no extension. PostgreSQL keeps the
+ * column current on every INSERT and UPDATE, so index() and remove() have nothing to do.
+ */
+@Slf4j
+@Component
+@Profile("!dev")
+@RequiredArgsConstructor
+public class PostgresApplicationSearchIndex implements ApplicationSearchIndex {
+
+    private static final String MATCH = " FROM loan_applications la"
+            + " WHERE la.search_vector @@ to_tsquery('simple', ?)";
+
+    // Injected so the schema has been created or updated before the DDL below runs
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void createSearchColumns() {
+        jdbcTemplate.execute("ALTER TABLE loan_applications ADD COLUMN IF NOT EXISTS search_vector tsvector "
+                + "GENERATED ALWAYS AS ("
+                + "setweight(to_tsvector('simple', coalesce(applicant_name, '')), 'A') || "
+                + "setweight(to_tsvector('simple', coalesce(employer_name, '')), 'B') || "
+                + "setweight(to_tsvector('simple', coalesce(purpose, '')), 'C')) STORED");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_app_search_vector ON loan_applications USING gin (search_vector)");
+    }
+
+    @Override
+    public void index(Long id, String applicantName, String employerName, String purpose) {
+        // Maintained by PostgreSQL
+    }
+
+    @Override
+    public void remove(Long id) {
+        // Maintained by PostgreSQL
+    }
+
+    @Override
+    public SearchHits search(String query, int offset, int limit) {
+        List<String> terms = List.of(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")).stream()
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+        String tsQuery = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT la.id" + MATCH
+                        + " ORDER BY ts_rank(la.search_vector, to_tsquery('simple', ?)) DESC, la.id DESC"
+                        + " LIMIT ? OFFSET ?",
+                Long.class, tsQuery, tsQuery, limit, offset);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + MATCH, Long.class, tsQuery);
+        return new SearchHits(ids, total != null ? total : 0);
+    }
+}
@@ -0,0 +1,228 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.dto.ProcessingTimeDTO;
+import com.loanapproval.dto.ProcessingTimeStatsDTO;
+import com.loanapproval.entity.ProcessingTimeSketch;
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import com.loanapproval.repository.ProcessingTimeSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+
+/**
+ * Percentiles of the time from submission to decision per loan type, kept in HdrHistograms of seconds
+ * accurate to two significant digits. Decisions are recorded once their transaction commits and every
+ * instance periodically adds what it recorded to the shared rows in processing_time_sketches, so the
+ * percentiles cover all instances and reading them never touches the applications. A histogram cannot
+ * forget a value: deleting a decided application leaves its processing time counted. The rows are
+ * seeded from the live and archived applications on startup while the table is empty; a decision
+ * committing during the seed may be counted twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessingTimeService {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final ProcessingTimeSketchRepository sketchRepository;
+    private final LoanApplicationRepository applicationRepository;
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<LoanType, Recorder> recorders = new ConcurrentHashMap<>();
+    // Decisions taken off the recorders but not yet stored; guarded by flushLock
+    private final Map<LoanType, Histogram> unflushed = new EnumMap<>(LoanType.class);
+    private final Object flushLock = new Object();
+    private volatile boolean seeded;
+
+    /**
+     * Record the processing time of an application that has just been decided; called by ApplicationChangeTracker
+     */
+    void applyChange(ApplicationSnapshot before, ApplicationSnapshot after) {
+        if (after == null || after.reviewedAt() == null || after.submittedAt() == null || after.loanType() == null) {
+            return;
+        }
+        if (before != null && before.reviewedAt() != null) {
+            return;
+        }
+        recorders.computeIfAbsent(after.loanType(), loanType -> new Recorder(SIGNIFICANT_DIGITS))
+                .recordValue(seconds(after.submittedAt(), after.reviewedAt()));
+    }
+
+    @Transactional(readOnly = true)
+    public ProcessingTimeStatsDTO getProcessingTimes() {
+        Histogram overall = new Histogram(SIGNIFICANT_DIGITS);
+        List<ProcessingTimeDTO> byLoanType = new ArrayList<>();
+        LocalDateTime updatedAt = null;
+
+        List<ProcessingTimeSketch> sketches = sketchRepository.findAll().stream()
+                .sorted(Comparator.comparing(ProcessingTimeSketch::getLoanType))
+                .toList();
+        for (ProcessingTimeSketch sketch : sketches) {
+            Histogram histogram = decode(sketch.getHistogram());
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            overall.add(histogram);
+            byLoanType.add(convertToDTO(sketch.getLoanType(), histogram));
+            if (updatedAt == null || sketch.getUpdatedAt().isAfter(updatedAt)) {
+                updatedAt = sketch.getUpdatedAt();
+            }
+        }
+
+        return ProcessingTimeStatsDTO.builder()
+                .overall(convertToDTO(null, overall))
+                .byLoanType(byLoanType)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    /**
+     * Seed the histograms from every decided application when no instance has stored any yet
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        synchronized (flushLock) {
+            try {
+                Long decisions = new TransactionTemplate(transactionManager).execute(status -> seedFromDatabase());
+                if (decisions != null) {
+                    log.info("Seeded processing time percentiles from {} decided applications", decisions);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Could not seed processing time percentiles: {}", ex.getMessage());
+            } finally {
+                seeded = true;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.processing-time.flush-interval-ms:10000}")
+    public void flush() {
+        synchronized (flushLock) {
+            if (!seeded) {
+                return;
+            }
+            recorders.forEach((loanType, recorder) -> {
+                Histogram interval = recorder.getIntervalHistogram();
+                if (interval.getTotalCount() > 0) {
+                    unflushed.computeIfAbsent(loanType, type -> new Histogram(SIGNIFICANT_DIGITS)).add(interval);
+                }
+            });
+            if (unflushed.isEmpty()) {
+                return;
+            }
+
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    unflushed.forEach((loanType, delta) -> {
+                        ProcessingTimeSketch sketch = sketchRepository.findForUpdate(loanType)
+                                .orElseGet(() -> ProcessingTimeSketch.builder().loanType(loanType).build());
+                        Histogram histogram = sketch.getHistogram() != null ? decode(sketch.getHistogram()) : new Histogram(SIGNIFICANT_DIGITS);
+                        histogram.add(delta);
+                        sketch.setHistogram(encode(histogram));
+                        sketch.setDecisionCount(histogram.getTotalCount());
+                        sketch.setUpdatedAt(now);
+                        sketchRepository.save(sketch);
+                    });
+                });
+                unflushed.clear();
+            } catch (RuntimeException ex) {
+                // Kept for the next flush, e.g. when another instance inserted the same loan type first
+                long decisions = unflushed.values().stream().mapToLong(Histogram::getTotalCount).sum();
+                log.warn("Could not flush processing times of {} decisions, will retry: {}", decisions, ex.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush processing time percentiles on shutdown: {}", e.getMessage());
+        }
+    }
+
+    private Long seedFromDatabase() {
+        if (sketchRepository.count() > 0) {
+            return null;
+        }
+
+        Map<LoanType, Histogram> histograms = new EnumMap<>(LoanType.class);
+        List<LoanApplicationRepository.ProcessingTimeCount> counts = new ArrayList<>(applicationRepository.countByProcessingTime());
+        counts.addAll(archivedApplicationRepository.countByProcessingTime());
+        for (LoanApplicationRepository.ProcessingTimeCount count : counts) {
+            histograms.computeIfAbsent(count.getLoanType(), loanType -> new Histogram(SIGNIFICANT_DIGITS))
+                    .recordValueWithCount(Math.max(0, count.getSeconds().longValue()), count.getCount());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ProcessingTimeSketch> sketches = histograms.entrySet().stream()
+                .map(entry -> new ProcessingTimeSketch(entry.getKey(), entry.getValue().getTotalCount(), encode(entry.getValue()), now))
+                .toList();
+        sketchRepository.saveAll(sketches);
+        return sketches.stream().mapToLong(ProcessingTimeSketch::getDecisionCount).sum();
+    }
+
+    private static long seconds(LocalDateTime submittedAt, LocalDateTime reviewedAt) {
+        return Math.max(0, Duration.between(submittedAt, reviewedAt).toSeconds());
+    }
+
+    private static byte[] encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    private static Histogram decode(byte[] bytes) {
+        try {
+            Histogram histogram = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), 0);
+            histogram.setAutoResize(true);
+            return histogram;
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt processing time histogram", ex);
+        }
+    }
+
+    private static ProcessingTimeDTO convertToDTO(LoanType loanType, Histogram histogram) {
+        boolean empty = histogram.getTotalCount() == 0;
+        return ProcessingTimeDTO.builder()
+                .loanType(loanType)
+                .decisions(histogram.getTotalCount())
+                .p50Hours(empty ? null : hours(histogram.getValueAtPercentile(50.0)))
+                .p90Hours(empty ? null : hours(histogram.getValueAtPercentile(90.0)))
+                .p99Hours(empty ? null : hours(histogram.getValueAtPercentile(99.0)))
+                .meanHours(empty ? null : hours(histogram.getMean()))
+                .maxHours(empty ? null : hours(histogram.getMaxValue()))
+                .build();
+    }
+
+    private static double hours(double seconds) {
+        return Math.round(seconds / 3600.0 * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,228 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.RiskFactorType;
+import com.loanapproval.dto.LoanApplicationRequestDTO;
+import com.loanapproval.dto.RiskBatchRequestDTO;
+import com.loanapproval.dto.RiskBatchResultDTO;
+import com.loanapproval.entity.LoanApplication;
+import com.loanapproval.entity.RiskFactor;
+import com.loanapproval.repository.LoanApplicationRepository;
+import com.loanapproval.repository.LoanDocumentRepository;
+import com.loanapproval.repository.RiskFactorRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk risk scoring for portfolio re-evaluation and what-if analysis.
+ * Work is processed in chunks: each chunk of stored applications is read with one query,
+ * scored in parallel on a bounded pool and written back in a single transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RiskBatchScoringService {
+
+    private final LoanApplicationRepository applicationRepository;
+    private final LoanDocumentRepository documentRepository;
+    private final RiskFactorRepository riskFactorRepository;
+    private final RiskScoringService riskScoringService;
+    private final ApplicationDetailCache applicationDetailCache;
+    private final ApplicationChangeTracker applicationChangeTracker;
+    private final PlatformTransactionManager transactionManager;
+    private final Validator validator;
+
+    @Value("${risk.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${risk.batch.threads:0}")
+    private int threads;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void startExecutor() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // Queue is sized to one chunk; if concurrent batches overflow it the caller scores the item itself
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                new CustomizableThreadFactory("risk-scoring-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Score every item of the request, handing each result to the sink as soon as its chunk completes.
+     * A failing item is reported in its own result and never aborts the rest of the batch.
+     */
+    public void scoreBatch(RiskBatchRequestDTO request, Consumer<RiskBatchResultDTO> sink) {
+        List<Long> applicationIds = request.getApplicationIds() != null ? request.getApplicationIds() : List.of();
+        for (int from = 0; from < applicationIds.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, applicationIds.size());
+            rescoreChunk(applicationIds.subList(from, to), from).forEach(sink);
+        }
+
+        List<LoanApplicationRequestDTO> payloads = request.getApplications() != null ? request.getApplications() : List.of();
+        for (int from = 0; from < payloads.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, payloads.size());
+            scoreWhatIfChunk(payloads.subList(from, to), from).forEach(sink);
+        }
+
+        log.info("Batch scored {} stored and {} what-if applications", applicationIds.size(), payloads.size());
+    }
+
+    private List<RiskBatchResultDTO> rescoreChunk(List<Long> applicationIds, int offset) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> {
+                List<Long> ids = applicationIds.stream().filter(Objects::nonNull).distinct().toList();
+                Map<Long, LoanApplication> applications = applicationRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(LoanApplication::getId, Function.identity()));
+                Map<Long, LoanDocumentRepository.DocumentCounts> documentCounts = applications.isEmpty()
+                        ? Map.of()
+                        : documentRepository.countByLoanApplicationIds(applications.keySet()).stream()
+                        .collect(Collectors.toMap(LoanDocumentRepository.DocumentCounts::getApplicationId, Function.identity()));
+
+                List<CompletableFuture<RiskScoreResult>> futures = new ArrayList<>(applicationIds.size());
+                for (Long id : applicationIds) {
+                    LoanApplication application = id != null ? applications.get(id) : null;
+                    if (application == null) {
+                        futures.add(null);
+                        continue;
+                    }
+                    LoanDocumentRepository.DocumentCounts counts = documentCounts.get(id);
+                    long verified = counts != null ? counts.getVerifiedCount() : 0;
+                    long total = counts != null ? counts.getTotalCount() : 0;
+                    futures.add(CompletableFuture.supplyAsync(
+                            () -> riskScoringService.evaluate(application, verified, total), executor));
+                }
+
+                List<RiskBatchResultDTO> results = new ArrayList<>(applicationIds.size());
+                List<RiskFactor> factors = new ArrayList<>();
+                for (int i = 0; i < applicationIds.size(); i++) {
+                    Long id = applicationIds.get(i);
+                    CompletableFuture<RiskScoreResult> future = futures.get(i);
+                    if (future == null) {
+                        results.add(failure(offset + i, id, "Application not found with ID: " + id));
+                        continue;
+                    }
+                    try {
+                        RiskScoreResult result = future.join();
+                        LoanApplication application = applications.get(id);
+                        ApplicationSnapshot before = ApplicationSnapshot.of(application);
+                        riskScoringService.applyResult(application, result);
+                        applicationDetailCache.evictAfterCommit(id);
+                        applicationChangeTracker.recordChange(before, ApplicationSnapshot.of(application));
+                        if (riskScoringService.isHistoryEnabled()) {
+                            factors.addAll(riskScoringService.buildRiskFactors(result, application));
+                        }
+                        results.add(success(offset + i, id, result));
+                    } catch (CompletionException ex) {
+                        results.add(failure(offset + i, id, ex.getCause().getMessage()));
+                    }
+                }
+
+                // Managed applications, including their factor vectors, are flushed by dirty checking at commit
+                if (!factors.isEmpty()) {
+                    riskFactorRepository.saveAll(factors);
+                }
+                return results;
+            });
+        } catch (RuntimeException ex) {
+            log.error("Batch chunk at offset {} could not be persisted", offset, ex);
+            List<RiskBatchResultDTO> results = new ArrayList<>(applicationIds.size());
+            for (int i = 0; i < applicationIds.size(); i++) {
+                results.add(failure(offset + i, applicationIds.get(i), "Chunk could not be persisted: " + ex.getMessage()));
+            }
+            return results;
+        }
+    }
+
+    private List<RiskBatchResultDTO> scoreWhatIfChunk(List<LoanApplicationRequestDTO> payloads, int offset) {
+        List<CompletableFuture<RiskScoreResult>> futures = new ArrayList<>(payloads.size());
+        List<String> errors = new ArrayList<>(payloads.size());
+        for (LoanApplicationRequestDTO payload : payloads) {
+            String error = validate(payload);
+            errors.add(error);
+            futures.add(error == null
+                    ? CompletableFuture.supplyAsync(() -> riskScoringService.evaluate(payload), executor)
+                    : null);
+        }
+
+        List<RiskBatchResultDTO> results = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            if (errors.get(i) != null) {
+                results.add(failure(offset + i, null, errors.get(i)));
+                continue;
+            }
+            try {
+                results.add(success(offset + i, null, futures.get(i).join()));
+            } catch (CompletionException ex) {
+                results.add(failure(offset + i, null, ex.getCause().getMessage()));
+            }
+        }
+        return results;
+    }
+
+    private String validate(LoanApplicationRequestDTO payload) {
+        if (payload == null) {
+            return "Application payload is required";
+        }
+        Set<ConstraintViolation<LoanApplicationRequestDTO>> violations = validator.validate(payload);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private RiskBatchResultDTO success(int index, Long applicationId, RiskScoreResult result) {
+        return RiskBatchResultDTO.builder()
+                .index(index)
+                .applicationId(applicationId)
+                .success(true)
+                .riskScore(result.getRiskScore())
+                .decision(result.getDecision())
+                .modelVersion(result.getModelVersion())
+                .dtiRatio(result.getValue(RiskFactorType.DEBT_TO_INCOME))
+                .ltiRatio(result.getValue(RiskFactorType.LOAN_TO_INCOME))
+                .build();
+    }
+
+    private RiskBatchResultDTO failure(int index, Long applicationId, String error) {
+        return RiskBatchResultDTO.builder()
+                .index(index)
+                .applicationId(applicationId)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.loanapproval.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded memo of scoring results keyed by exactly the inputs {@link RiskScoringKernel#score} reads
+ * plus the model version. Fields such as phone or employer name are not part of the key,
+ * so editing them reuses the cached result instead of recomputing it. Backed by a concurrent
+ * Caffeine cache, so the parallel batch scorer and the async workers never wait on each other.
+ */
+@Component
+public class RiskScoreCache {
+
+    /**
+     * Canonical scoring inputs; amounts are unscaled cents so equal values always produce equal keys
+     */
+    record Key(int modelVersion, int creditScore, long annualIncome, long existingDebts, long loanAmount,
+               int loanTerm, int employmentDuration, long verifiedDocCount, long totalDocCount) {
+    }
+
+    private final int maxSize;
+    private final Cache<Key, RiskScoreResult> entries;
+    private final AtomicLong uncachedMisses = new AtomicLong();
+
+    public RiskScoreCache(@Value("${risk.score-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maxSize))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return the cached result for the key, computing and storing it on a miss.
+     * Concurrent misses on the same key compute once; scoring is pure and fast.
+     */
+    RiskScoreResult get(Key key, Supplier<RiskScoreResult> compute) {
+        if (maxSize <= 0) {
+            uncachedMisses.incrementAndGet();
+            return compute.get();
+        }
+        return entries.get(key, k -> compute.get());
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    public int size() {
+        return (int) entries.estimatedSize();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return entries.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return entries.stats().missCount() + uncachedMisses.get();
+    }
+
+    public long getEvictions() {
+        return entries.stats().evictionCount();
+    }
+}
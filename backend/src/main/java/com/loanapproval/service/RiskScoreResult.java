@@ -0,0 +1,83 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.RiskFactorType;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of a single {@link RiskScoringKernel} evaluation.
+ * Every quantity is held as an unscaled long with two implied decimal places (30.00 == 3000).
+ */
+public final class RiskScoreResult {
+
+    private static final int FACTOR_COUNT = RiskFactorType.values().length;
+
+    private final long[] values = new long[FACTOR_COUNT];
+    private final long[] weights = new long[FACTOR_COUNT];
+    private final long[] scores = new long[FACTOR_COUNT];
+    private final String[] statuses = new String[FACTOR_COUNT];
+    private long riskScore;
+    private String decision;
+    private int modelVersion;
+
+    RiskScoreResult() {
+    }
+
+    void setFactor(RiskFactorType type, long value, long weight, long score, String status) {
+        int i = type.ordinal();
+        values[i] = value;
+        weights[i] = weight;
+        scores[i] = score;
+        statuses[i] = status;
+    }
+
+    void setOutcome(long riskScore, String decision, int modelVersion) {
+        this.riskScore = riskScore;
+        this.decision = decision;
+        this.modelVersion = modelVersion;
+    }
+
+    public long getUnscaledValue(RiskFactorType type) {
+        return values[type.ordinal()];
+    }
+
+    public long getUnscaledWeight(RiskFactorType type) {
+        return weights[type.ordinal()];
+    }
+
+    public long getUnscaledScore(RiskFactorType type) {
+        return scores[type.ordinal()];
+    }
+
+    public String getStatus(RiskFactorType type) {
+        return statuses[type.ordinal()];
+    }
+
+    public long getUnscaledRiskScore() {
+        return riskScore;
+    }
+
+    public BigDecimal getValue(RiskFactorType type) {
+        return RiskScoringKernel.toBigDecimal(getUnscaledValue(type));
+    }
+
+    public BigDecimal getWeight(RiskFactorType type) {
+        return RiskScoringKernel.toBigDecimal(getUnscaledWeight(type));
+    }
+
+    public BigDecimal getScore(RiskFactorType type) {
+        return RiskScoringKernel.toBigDecimal(getUnscaledScore(type));
+    }
+
+    public BigDecimal getRiskScore() {
+        return RiskScoringKernel.toBigDecimal(riskScore);
+    }
+
+    public String getDecision() {
+        return decision;
+    }
+
+    public int getModelVersion() {
+        return modelVersion;
+    }
+}
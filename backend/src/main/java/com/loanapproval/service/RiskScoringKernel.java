@@ -0,0 +1,196 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.RiskFactorType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.loanapproval.common.enums.RiskFactorType.*;
+
+/**
+ * Fixed-point implementation of the five-factor risk model.
+ * All arithmetic is done on longs with two implied decimal places and every division rounds HALF_UP,
+ * which reproduces the 2-decimal BigDecimal results the scoring engine has always produced.
+ * Monetary inputs are in cents, rounded the same way the numeric(38,2) columns store them.
+ * Instances are immutable; each one is a snapshot of a single scoring model version.
+ */
+public final class RiskScoringKernel {
+
+    static final int SCALE = 2;
+
+    private static final long ONE_HUNDRED = 100_00L;
+    private static final long SCALE_FACTOR = 100L;
+    private static final RiskFactorType[] FACTOR_TYPES = RiskFactorType.values();
+    private static final Set<RiskFactorType> ALL_FACTORS = EnumSet.allOf(RiskFactorType.class);
+
+    private final int modelVersion;
+    private final long creditScoreWeight;
+    private final long dtiWeight;
+    private final long employmentWeight;
+    private final long ltiWeight;
+    private final long documentWeight;
+    private final long autoApproveThreshold;
+    private final long autoRejectThreshold;
+
+    public RiskScoringKernel(int modelVersion, long creditScoreWeight, long dtiWeight, long employmentWeight,
+                             long ltiWeight, long documentWeight, long autoApproveThreshold, long autoRejectThreshold) {
+        this.modelVersion = modelVersion;
+        this.creditScoreWeight = creditScoreWeight;
+        this.dtiWeight = dtiWeight;
+        this.employmentWeight = employmentWeight;
+        this.ltiWeight = ltiWeight;
+        this.documentWeight = documentWeight;
+        this.autoApproveThreshold = autoApproveThreshold;
+        this.autoRejectThreshold = autoRejectThreshold;
+    }
+
+    /**
+     * Score one set of inputs. Monetary arguments are unscaled cents.
+     */
+    public RiskScoreResult score(int creditScore, long annualIncome, long existingDebts, long loanAmount,
+                                 int loanTerm, int employmentDuration, long verifiedDocCount, long totalDocCount) {
+        return rescore(null, ALL_FACTORS, creditScore, annualIncome, existingDebts, loanAmount, loanTerm,
+                employmentDuration, verifiedDocCount, totalDocCount);
+    }
+
+    /**
+     * Recompute only the given factors and take the others from a previous result, then re-total.
+     * Inputs that only feed factors outside the set are ignored. With a null previous result every factor is computed.
+     */
+    public RiskScoreResult rescore(RiskScoreResult previous, Set<RiskFactorType> factors, int creditScore, long annualIncome,
+                                   long existingDebts, long loanAmount, int loanTerm, int employmentDuration,
+                                   long verifiedDocCount, long totalDocCount) {
+        RiskScoreResult result = new RiskScoreResult();
+        for (RiskFactorType type : FACTOR_TYPES) {
+            if (previous != null && !factors.contains(type)) {
+                result.setFactor(type, previous.getUnscaledValue(type), getUnscaledWeight(type),
+                        previous.getUnscaledScore(type), previous.getStatus(type));
+                continue;
+            }
+            switch (type) {
+                case CREDIT_SCORE -> scoreCreditScore(result, creditScore);
+                case DEBT_TO_INCOME -> scoreDebtToIncome(result, annualIncome, existingDebts, loanAmount, loanTerm);
+                case EMPLOYMENT_STABILITY -> scoreEmploymentStability(result, employmentDuration);
+                case LOAN_TO_INCOME -> scoreLoanToIncome(result, annualIncome, loanAmount);
+                case DOCUMENT_VERIFICATION -> scoreDocumentVerification(result, verifiedDocCount, totalDocCount);
+            }
+        }
+
+        long riskScore = 0;
+        for (RiskFactorType type : FACTOR_TYPES) {
+            // score * weight / 100, rounded to two decimals
+            riskScore += divideHalfUp(result.getUnscaledScore(type) * result.getUnscaledWeight(type), ONE_HUNDRED);
+        }
+        result.setOutcome(riskScore, getDecision(riskScore), modelVersion);
+        return result;
+    }
+
+    private void scoreCreditScore(RiskScoreResult result, int creditScore) {
+        // Credit Score: 300 -> 0, 850 -> 100
+        long creditScoreScore = Math.max(0, Math.min(100, (creditScore - 300) * 100 / 550)) * SCALE_FACTOR;
+        result.setFactor(CREDIT_SCORE, creditScore * SCALE_FACTOR, creditScoreWeight, creditScoreScore,
+                getStatus(creditScore, 720, 650));
+    }
+
+    private void scoreDebtToIncome(RiskScoreResult result, long annualIncome, long existingDebts, long loanAmount, int loanTerm) {
+        // DTI = (Total Monthly Debt / Monthly Income) * 100
+        long monthlyIncome = divideHalfUp(annualIncome, 12);
+        long monthlyDebt = divideHalfUp(existingDebts, 12);
+        long monthlyDebtNew = divideHalfUp(loanAmount, loanTerm);
+        long totalMonthlyDebt = monthlyDebt + monthlyDebtNew;
+        long dtiRatio = monthlyIncome > 0
+                ? divideHalfUp(Math.multiplyExact(totalMonthlyDebt, SCALE_FACTOR), monthlyIncome) * 100
+                : ONE_HUNDRED;
+        result.setFactor(DEBT_TO_INCOME, dtiRatio, dtiWeight, clamp(ONE_HUNDRED - dtiRatio * 2),
+                getStatus((int) (dtiRatio / SCALE_FACTOR), 30, 43));
+    }
+
+    private void scoreEmploymentStability(RiskScoreResult result, int employmentDuration) {
+        // Employment Stability: years at job * 20, capped at 100
+        result.setFactor(EMPLOYMENT_STABILITY, employmentDuration * SCALE_FACTOR, employmentWeight,
+                Math.min(100, employmentDuration * 20) * SCALE_FACTOR,
+                getStatus(employmentDuration, 3, 1));
+    }
+
+    private void scoreLoanToIncome(RiskScoreResult result, long annualIncome, long loanAmount) {
+        // LTI = Loan Amount / Annual Income
+        long ltiRatio = annualIncome > 0
+                ? divideHalfUp(Math.multiplyExact(loanAmount, SCALE_FACTOR), annualIncome)
+                : ONE_HUNDRED;
+        String ltiStatus = ltiRatio <= 3 * SCALE_FACTOR ? "GOOD" :
+                ltiRatio > 5 * SCALE_FACTOR ? "CRITICAL" : "WARNING";
+        result.setFactor(LOAN_TO_INCOME, ltiRatio, ltiWeight, clamp(ONE_HUNDRED - ltiRatio * 25), ltiStatus);
+    }
+
+    private void scoreDocumentVerification(RiskScoreResult result, long verifiedDocCount, long totalDocCount) {
+        // Document Verification: (verified docs / total docs) * 100
+        long verifiedRatio = divideHalfUp(verifiedDocCount * SCALE_FACTOR, Math.max(1, totalDocCount)) * 100;
+        String documentStatus = verifiedDocCount == totalDocCount && totalDocCount > 0 ? "GOOD" :
+                verifiedDocCount < totalDocCount / 2 ? "CRITICAL" : "WARNING";
+        result.setFactor(DOCUMENT_VERIFICATION, verifiedRatio, documentWeight,
+                totalDocCount > 0 ? verifiedRatio : 0, documentStatus);
+    }
+
+    /**
+     * Determine decision based on an unscaled risk score
+     */
+    public String getDecision(long riskScore) {
+        if (riskScore <= autoApproveThreshold) {
+            return "APPROVED";
+        } else if (riskScore >= autoRejectThreshold) {
+            return "REJECTED";
+        } else {
+            return "MANUAL_REVIEW";
+        }
+    }
+
+    public int getModelVersion() {
+        return modelVersion;
+    }
+
+    public long getUnscaledWeight(RiskFactorType type) {
+        return switch (type) {
+            case CREDIT_SCORE -> creditScoreWeight;
+            case DEBT_TO_INCOME -> dtiWeight;
+            case EMPLOYMENT_STABILITY -> employmentWeight;
+            case LOAN_TO_INCOME -> ltiWeight;
+            case DOCUMENT_VERIFICATION -> documentWeight;
+        };
+    }
+
+    public static long toUnscaled(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long unscaled) {
+        return BigDecimal.valueOf(unscaled, SCALE);
+    }
+
+    private static long clamp(long score) {
+        return Math.max(0, Math.min(ONE_HUNDRED, score));
+    }
+
+    /**
+     * Integer division rounding half away from zero, i.e. {@link RoundingMode#HALF_UP}
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    private static String getStatus(int value, int goodThreshold, int criticalThreshold) {
+        if (value >= goodThreshold) {
+            return "GOOD";
+        } else if (value <= criticalThreshold) {
+            return "CRITICAL";
+        } else {
+            return "WARNING";
+        }
+    }
+}
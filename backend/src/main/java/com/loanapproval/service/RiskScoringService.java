@@ -1,18 +1,30 @@
 package com.loanapproval.service;
 
-import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.RiskFactorType;
+import com.loanapproval.dto.ArchivedApplicationPayload;
+import com.loanapproval.dto.CacheStatsDTO;
+import com.loanapproval.dto.LoanApplicationRequestDTO;
 import com.loanapproval.dto.RiskFactorDTO;
 import com.loanapproval.entity.LoanApplication;
 import com.loanapproval.entity.RiskFactor;
+import com.loanapproval.entity.RiskFactorVector;
+import com.loanapproval.exception.ApplicationNotFoundException;
+import com.loanapproval.repository.LoanApplicationRepository;
 import com.loanapproval.repository.RiskFactorRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -20,274 +32,280 @@ import java.util.*;
 public class RiskScoringService {
 
     private final RiskFactorRepository riskFactorRepository;
-
-    // Risk Factor Weights
-    private static final BigDecimal CREDIT_SCORE_WEIGHT = new BigDecimal("0.30");
-    private static final BigDecimal DTI_WEIGHT = new BigDecimal("0.25");
-    private static final BigDecimal EMPLOYMENT_WEIGHT = new BigDecimal("0.20");
-    private static final BigDecimal LTI_WEIGHT = new BigDecimal("0.15");
-    private static final BigDecimal DOCUMENT_WEIGHT = new BigDecimal("0.10");
-
-    // Thresholds
-    private static final BigDecimal AUTO_APPROVE_THRESHOLD = new BigDecimal("30");
-    private static final BigDecimal AUTO_REJECT_THRESHOLD = new BigDecimal("60");
+    private final LoanApplicationRepository applicationRepository;
+    private final ScoringModelService scoringModelService;
+    private final RiskScoreCache riskScoreCache;
+    private final ApplicationArchive applicationArchive;
+
+    /** Application fields each factor is derived from; documents are not patchable fields */
+    private static final Map<String, Set<RiskFactorType>> FACTOR_INPUTS = Map.of(
+            "creditScore", EnumSet.of(RiskFactorType.CREDIT_SCORE),
+            "annualIncome", EnumSet.of(RiskFactorType.DEBT_TO_INCOME, RiskFactorType.LOAN_TO_INCOME),
+            "existingDebts", EnumSet.of(RiskFactorType.DEBT_TO_INCOME),
+            "loanAmount", EnumSet.of(RiskFactorType.DEBT_TO_INCOME, RiskFactorType.LOAN_TO_INCOME),
+            "loanTerm", EnumSet.of(RiskFactorType.DEBT_TO_INCOME),
+            "employmentDuration", EnumSet.of(RiskFactorType.EMPLOYMENT_STABILITY)
+    );
+
+    @Value("${risk.factors.history-enabled:false}")
+    private boolean historyEnabled;
 
     /**
-     * Calculate overall risk score and individual risk factors
+     * Calculate overall risk score and individual risk factors and store them on the application.
+     * The factors are written with the application row; history rows are only added when enabled.
      */
     public Map<String, Object> calculateRiskScore(LoanApplication application, long verifiedDocCount) {
-        List<RiskFactor> factors = new ArrayList<>();
+        RiskScoreResult result = scoreApplication(application, verifiedDocCount, application.getDocuments().size());
 
-        // Calculate individual factors
-        RiskFactor creditScoreFactor = calculateCreditScoreFactor(application);
-        factors.add(creditScoreFactor);
+        return Map.of(
+                "riskScore", result.getRiskScore(),
+                "decision", result.getDecision(),
+                "modelVersion", result.getModelVersion(),
+                "factors", application.getRiskFactors()
+        );
+    }
 
-        RiskFactor dtiFactor = calculateDTIFactor(application);
-        factors.add(dtiFactor);
+    /**
+     * Evaluate an application and store the outcome on it, recording history rows when enabled
+     */
+    public RiskScoreResult scoreApplication(LoanApplication application, long verifiedDocCount, long totalDocCount) {
+        RiskScoreResult result = evaluate(application, verifiedDocCount, totalDocCount);
 
-        RiskFactor employmentFactor = calculateEmploymentFactor(application);
-        factors.add(employmentFactor);
+        applyResult(application, result);
 
-        RiskFactor ltiFactor = calculateLTIFactor(application);
-        factors.add(ltiFactor);
+        if (historyEnabled) {
+            riskFactorRepository.saveAll(buildRiskFactors(result, application));
+        }
 
-        RiskFactor documentFactor = calculateDocumentVerificationFactor(application, verifiedDocCount);
-        factors.add(documentFactor);
+        log.info("Risk score calculated for application {}: {}", application.getApplicationId(), result.getRiskScore());
+        return result;
+    }
+
+    /**
+     * Factors whose inputs are among the given application field names
+     */
+    public Set<RiskFactorType> getAffectedFactors(Set<String> changedFields) {
+        Set<RiskFactorType> factors = EnumSet.noneOf(RiskFactorType.class);
+        for (String field : changedFields) {
+            factors.addAll(FACTOR_INPUTS.getOrDefault(field, Set.of()));
+        }
+        return factors;
+    }
 
-        // Save factors to database
-        factors.forEach(f -> f.setLoanApplication(application));
-        riskFactorRepository.saveAll(factors);
+    /**
+     * Recompute only the given factors, keeping the rest of the stored vector, and store the re-totalled outcome.
+     * Returns null without touching the application when the stored vector is missing or came from another
+     * model version; the caller must then score it in full.
+     */
+    public RiskScoreResult rescoreFactors(LoanApplication application, Set<RiskFactorType> factors) {
+        RiskScoringKernel kernel = scoringModelService.getActiveKernel();
+        RiskFactorVector vector = application.getRiskFactors();
+        if (vector == null || !Integer.valueOf(kernel.getModelVersion()).equals(application.getRiskModelVersion())) {
+            return null;
+        }
 
-        // Calculate weighted overall score
-        BigDecimal overallScore = calculateWeightedScore(factors);
+        RiskScoreResult previous = new RiskScoreResult();
+        for (RiskFactorType type : RiskFactorType.values()) {
+            previous.setFactor(type, RiskScoringKernel.toUnscaled(vector.getValue(type)), kernel.getUnscaledWeight(type),
+                    RiskScoringKernel.toUnscaled(vector.getScore(type)), vector.getStatus(type));
+        }
 
-        log.info("Risk score calculated for application {}: {}", application.getApplicationId(), overallScore);
+        // Document counts only feed the document factor, which is never among the recomputed ones here
+        RiskScoreResult result = kernel.rescore(previous, factors,
+                application.getCreditScore(),
+                RiskScoringKernel.toUnscaled(application.getAnnualIncome()),
+                RiskScoringKernel.toUnscaled(application.getExistingDebts()),
+                RiskScoringKernel.toUnscaled(application.getLoanAmount()),
+                application.getLoanTerm(),
+                application.getEmploymentDuration(),
+                0,
+                0);
+        applyResult(application, result);
+
+        if (historyEnabled) {
+            riskFactorRepository.saveAll(buildRiskFactors(result, application));
+        }
 
-        return Map.of(
-                "riskScore", overallScore,
-                "decision", getDecision(overallScore),
-                "factors", factors
-        );
+        log.info("Risk factors {} rescored for application {}: {}", factors, application.getApplicationId(), result.getRiskScore());
+        return result;
     }
 
     /**
-     * Credit Score Factor (30% weight)
-     * Range: 300-850
-     * Score formula: (creditScore - 300) / 5.5, capped at 100
+     * Score an application without touching the database or building RiskFactor entities
      */
-    private RiskFactor calculateCreditScoreFactor(LoanApplication application) {
-        int creditScore = application.getCreditScore();
-
-        // Normalize credit score: 300 -> 100, 850 -> 0
-        BigDecimal normalizedScore = new BigDecimal(Math.max(0, Math.min(100, (creditScore - 300) * 100 / 550)))
-                .setScale(2, RoundingMode.HALF_UP);
-
-        String status = getStatus(creditScore, 720, 650); // Good: >=720, Critical: <650
-
-        return RiskFactor.builder()
-                .factorName("Credit Score")
-                .description("Applicant's credit score - higher is better")
-                .value(new BigDecimal(creditScore))
-                .weight(CREDIT_SCORE_WEIGHT.multiply(new BigDecimal("100"))) // Convert to percentage
-                .score(normalizedScore)
-                .status(status)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+    public RiskScoreResult evaluate(LoanApplication application, long verifiedDocCount) {
+        return evaluate(application, verifiedDocCount, application.getDocuments().size());
     }
 
     /**
-     * DTI Factor (25% weight)
-     * DTI = (Total Monthly Debt / Monthly Income) * 100
-     * Score formula: 100 - (DTI * 2), capped at 0-100
+     * Score an application whose document counts were loaded separately, e.g. in bulk
      */
-    private RiskFactor calculateDTIFactor(LoanApplication application) {
-        BigDecimal monthlyIncome = application.getAnnualIncome().divide(new BigDecimal("12"), 2, RoundingMode.HALF_UP);
-        BigDecimal monthlyDebt = application.getExistingDebts().divide(new BigDecimal("12"), 2, RoundingMode.HALF_UP);
-        BigDecimal monthlyDebtNew = application.getLoanAmount().divide(new BigDecimal(application.getLoanTerm()), 2, RoundingMode.HALF_UP);
-
-        BigDecimal totalMonthlyDebt = monthlyDebt.add(monthlyDebtNew);
-        BigDecimal dtiRatio = monthlyIncome.compareTo(BigDecimal.ZERO) > 0 ?
-                totalMonthlyDebt.divide(monthlyIncome, 2, RoundingMode.HALF_UP).multiply(new BigDecimal("100")) :
-                new BigDecimal("100");
-
-        // Score: higher DTI = higher risk = lower score
-        BigDecimal score = new BigDecimal("100").subtract(dtiRatio.multiply(new BigDecimal("2")))
-                .max(BigDecimal.ZERO)
-                .min(new BigDecimal("100"))
-                .setScale(2, RoundingMode.HALF_UP);
-
-        // Store DTI ratio in application
-        application.setDtiRatio(dtiRatio);
-
-        String status = getStatus(dtiRatio.intValue(), 30, 43); // Good: <=30%, Critical: >43%
-
-        return RiskFactor.builder()
-                .factorName("Debt-to-Income Ratio")
-                .description("Percentage of income needed to cover existing debts")
-                .value(dtiRatio)
-                .weight(DTI_WEIGHT.multiply(new BigDecimal("100")))
-                .score(score)
-                .status(status)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+    public RiskScoreResult evaluate(LoanApplication application, long verifiedDocCount, long totalDocCount) {
+        return score(
+                application.getCreditScore(),
+                RiskScoringKernel.toUnscaled(application.getAnnualIncome()),
+                RiskScoringKernel.toUnscaled(application.getExistingDebts()),
+                RiskScoringKernel.toUnscaled(application.getLoanAmount()),
+                application.getLoanTerm(),
+                application.getEmploymentDuration(),
+                verifiedDocCount,
+                totalDocCount);
     }
 
     /**
-     * Employment Stability Factor (20% weight)
-     * Score: Years at job * 20%, capped at 100
-     * Good: >=3 years, Critical: <1 year
+     * What-if scoring of a raw request; no documents have been uploaded for it yet
      */
-    private RiskFactor calculateEmploymentFactor(LoanApplication application) {
-        int employmentDuration = application.getEmploymentDuration();
-
-        // Score increases with employment duration
-        BigDecimal score = new BigDecimal(Math.min(100, employmentDuration * 20))
-                .setScale(2, RoundingMode.HALF_UP);
-
-        String status = getStatus(employmentDuration, 3, 1); // Good: >=3, Critical: <1
-
-        return RiskFactor.builder()
-                .factorName("Employment Stability")
-                .description("Years at current employment - longer is better")
-                .value(new BigDecimal(employmentDuration))
-                .weight(EMPLOYMENT_WEIGHT.multiply(new BigDecimal("100")))
-                .score(score)
-                .status(status)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+    public RiskScoreResult evaluate(LoanApplicationRequestDTO request) {
+        return score(
+                request.getCreditScore(),
+                RiskScoringKernel.toUnscaled(request.getAnnualIncome()),
+                RiskScoringKernel.toUnscaled(request.getExistingDebts()),
+                RiskScoringKernel.toUnscaled(request.getLoanAmount()),
+                request.getLoanTerm(),
+                request.getEmploymentDuration(),
+                0,
+                0);
+    }
+
+    private RiskScoreResult score(int creditScore, long annualIncome, long existingDebts, long loanAmount,
+                                  int loanTerm, int employmentDuration, long verifiedDocCount, long totalDocCount) {
+        RiskScoringKernel kernel = scoringModelService.getActiveKernel();
+        RiskScoreCache.Key key = new RiskScoreCache.Key(kernel.getModelVersion(), creditScore, annualIncome,
+                existingDebts, loanAmount, loanTerm, employmentDuration, verifiedDocCount, totalDocCount);
+        return riskScoreCache.get(key, () -> kernel.score(creditScore, annualIncome, existingDebts, loanAmount,
+                loanTerm, employmentDuration, verifiedDocCount, totalDocCount));
     }
 
     /**
-     * LTI Factor (15% weight)
-     * LTI = Loan Amount / Annual Income
-     * Score formula: 100 - (LTI * 25), capped at 0-100
-     * Good: <=3x, Critical: >5x
+     * Hit and miss counters of the score memo
      */
-    private RiskFactor calculateLTIFactor(LoanApplication application) {
-        BigDecimal ltiRatio = application.getAnnualIncome().compareTo(BigDecimal.ZERO) > 0 ?
-                application.getLoanAmount().divide(application.getAnnualIncome(), 2, RoundingMode.HALF_UP) :
-                new BigDecimal("100");
-
-        // Score: higher LTI = higher risk = lower score
-        BigDecimal score = new BigDecimal("100").subtract(ltiRatio.multiply(new BigDecimal("25")))
-                .max(BigDecimal.ZERO)
-                .min(new BigDecimal("100"))
-                .setScale(2, RoundingMode.HALF_UP);
-
-        // Store LTI ratio in application
-        application.setLtiRatio(ltiRatio);
-
-        BigDecimal goodThreshold = new BigDecimal("3");
-        BigDecimal criticalThreshold = new BigDecimal("5");
-
-        String status = ltiRatio.compareTo(goodThreshold) <= 0 ? "GOOD" :
-                ltiRatio.compareTo(criticalThreshold) > 0 ? "CRITICAL" : "WARNING";
-
-        return RiskFactor.builder()
-                .factorName("Loan-to-Income Ratio")
-                .description("Loan amount relative to annual income - lower is better")
-                .value(ltiRatio)
-                .weight(LTI_WEIGHT.multiply(new BigDecimal("100")))
-                .score(score)
-                .status(status)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
+    public CacheStatsDTO getCacheStats() {
+        long hits = riskScoreCache.getHits();
+        long misses = riskScoreCache.getMisses();
+        long lookups = hits + misses;
+        return CacheStatsDTO.builder()
+                .size(riskScoreCache.size())
+                .maxSize(riskScoreCache.getMaxSize())
+                .hits(hits)
+                .misses(misses)
+                .evictions(riskScoreCache.getEvictions())
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
                 .build();
     }
 
     /**
-     * Document Verification Factor (10% weight)
-     * Score: (verified docs / total docs) * 100
+     * Determine decision based on risk score
      */
-    private RiskFactor calculateDocumentVerificationFactor(LoanApplication application, long verifiedDocCount) {
-        long totalDocCount = application.getDocuments().size();
-
-        BigDecimal score = totalDocCount > 0 ?
-                new BigDecimal(verifiedDocCount).divide(new BigDecimal(totalDocCount), 2, RoundingMode.HALF_UP)
-                        .multiply(new BigDecimal("100")) :
-                new BigDecimal("0");
-
-        String status = verifiedDocCount == totalDocCount && totalDocCount > 0 ? "GOOD" :
-                verifiedDocCount < totalDocCount / 2 ? "CRITICAL" : "WARNING";
-
-        return RiskFactor.builder()
-                .factorName("Document Verification")
-                .description("Percentage of documents verified")
-                .value(new BigDecimal(verifiedDocCount).divide(new BigDecimal(Math.max(1, totalDocCount)), 2, RoundingMode.HALF_UP).multiply(new BigDecimal("100")))
-                .weight(DOCUMENT_WEIGHT.multiply(new BigDecimal("100")))
-                .score(score)
-                .status(status)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+    public String getDecision(BigDecimal riskScore) {
+        return scoringModelService.getActiveKernel().getDecision(RiskScoringKernel.toUnscaled(riskScore));
     }
 
     /**
-     * Calculate weighted overall score from all factors
+     * Store the score, the factor vector, the DTI and LTI ratios and the producing model version
+     * on the application, replacing whatever an earlier scoring stored there
      */
-    private BigDecimal calculateWeightedScore(List<RiskFactor> factors) {
-        BigDecimal weightedSum = BigDecimal.ZERO;
-
-        for (RiskFactor factor : factors) {
-            BigDecimal contribution = factor.getScore()
-                    .multiply(factor.getWeight())
-                    .divide(new BigDecimal("100"), 2, RoundingMode.HALF_UP);
-            weightedSum = weightedSum.add(contribution);
+    public void applyResult(LoanApplication application, RiskScoreResult result) {
+        application.setRiskScore(result.getRiskScore());
+        application.setRiskModelVersion(result.getModelVersion());
+        application.setDtiRatio(result.getValue(RiskFactorType.DEBT_TO_INCOME));
+        application.setLtiRatio(result.getValue(RiskFactorType.LOAN_TO_INCOME));
+
+        RiskFactorVector vector = new RiskFactorVector();
+        for (RiskFactorType type : RiskFactorType.values()) {
+            vector.setFactor(type, result.getValue(type), result.getScore(type), result.getStatus(type));
         }
+        vector.setScoredAt(LocalDateTime.now());
+        application.setRiskFactors(vector);
+    }
 
-        return weightedSum.setScale(2, RoundingMode.HALF_UP);
+    public boolean isHistoryEnabled() {
+        return historyEnabled;
     }
 
     /**
-     * Determine decision based on risk score
+     * Build unsaved RiskFactor history entities for a scoring result
      */
-    public String getDecision(BigDecimal riskScore) {
-        if (riskScore.compareTo(AUTO_APPROVE_THRESHOLD) <= 0) {
-            return "APPROVED";
-        } else if (riskScore.compareTo(AUTO_REJECT_THRESHOLD) >= 0) {
-            return "REJECTED";
-        } else {
-            return "MANUAL_REVIEW";
+    public List<RiskFactor> buildRiskFactors(RiskScoreResult result, LoanApplication application) {
+        LocalDateTime now = LocalDateTime.now();
+        List<RiskFactor> factors = new ArrayList<>(RiskFactorType.values().length);
+        for (RiskFactorType type : RiskFactorType.values()) {
+            factors.add(RiskFactor.builder()
+                    .factorName(type.getDisplayName())
+                    .description(type.getDescription())
+                    .value(result.getValue(type))
+                    .weight(result.getWeight(type))
+                    .score(result.getScore(type))
+                    .status(result.getStatus(type))
+                    .loanApplication(application)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
         }
+        return factors;
     }
 
     /**
-     * Helper to determine status
+     * Get risk factors for an application
      */
-    private String getStatus(int value, int goodThreshold, int criticalThreshold) {
-        if (value >= goodThreshold) {
-            return "GOOD";
-        } else if (value <= criticalThreshold) {
-            return "CRITICAL";
-        } else {
-            return "WARNING";
+    @Transactional(readOnly = true)
+    public List<RiskFactorDTO> getRiskFactors(Long applicationId) {
+        LoanApplication application = applicationRepository.findById(applicationId).orElse(null);
+        if (application == null) {
+            return applicationArchive.findById(applicationId)
+                    .map(this::getArchivedRiskFactors)
+                    .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId));
+        }
+
+        if (application.getRiskFactors() == null) {
+            // Scored before factor vectors existed: use the latest history row of each factor
+            Set<String> seen = new HashSet<>();
+            return riskFactorRepository.findByLoanApplicationIdOrderByCreatedAtDesc(applicationId)
+                    .stream()
+                    .filter(factor -> seen.add(factor.getFactorName()))
+                    .map(this::convertToDTO)
+                    .toList();
         }
+        return getCurrentRiskFactors(application);
     }
 
-    private String getStatus(BigDecimal value, int goodThreshold, int criticalThreshold) {
-        if (value.compareTo(new BigDecimal(goodThreshold)) >= 0) {
-            return "GOOD";
-        } else if (value.compareTo(new BigDecimal(criticalThreshold)) <= 0) {
-            return "CRITICAL";
-        } else {
-            return "WARNING";
+    private List<RiskFactorDTO> getArchivedRiskFactors(ArchivedApplicationPayload archived) {
+        List<RiskFactorDTO> current = archived.getApplication().getRiskFactors();
+        if (current != null && !current.isEmpty()) {
+            return current;
         }
+        // History is archived newest first
+        Set<String> seen = new HashSet<>();
+        return archived.getRiskFactorHistory().stream()
+                .filter(factor -> seen.add(factor.getFactorName()))
+                .toList();
     }
 
     /**
-     * Get risk factors for an application
+     * Current factor breakdown stored on the application, empty if it has not been scored
      */
-    public List<RiskFactorDTO> getRiskFactors(Long applicationId) {
-        return riskFactorRepository.findByLoanApplicationId(applicationId)
-                .stream()
-                .map(this::convertToDTO)
-                .toList();
+    public List<RiskFactorDTO> getCurrentRiskFactors(LoanApplication application) {
+        RiskFactorVector vector = application.getRiskFactors();
+        if (vector == null) {
+            return List.of();
+        }
+
+        RiskScoringKernel kernel = scoringModelService.getKernel(application.getRiskModelVersion());
+        List<RiskFactorDTO> factors = new ArrayList<>(RiskFactorType.values().length);
+        for (RiskFactorType type : RiskFactorType.values()) {
+            factors.add(RiskFactorDTO.builder()
+                    .factorName(type.getDisplayName())
+                    .description(type.getDescription())
+                    .value(vector.getValue(type))
+                    .weight(RiskScoringKernel.toBigDecimal(kernel.getUnscaledWeight(type)))
+                    .score(vector.getScore(type))
+                    .status(vector.getStatus(type))
+                    .createdAt(vector.getScoredAt())
+                    .build());
+        }
+        return factors;
     }
 
-    private RiskFactorDTO convertToDTO(RiskFactor factor) {
+    RiskFactorDTO convertToDTO(RiskFactor factor) {
         return RiskFactorDTO.builder()
                 .id(factor.getId())
                 .factorName(factor.getFactorName())
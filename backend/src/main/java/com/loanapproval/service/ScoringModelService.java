@@ -0,0 +1,248 @@
+package com.loanapproval.service;
+
+import com.loanapproval.dto.ScoringModelDTO;
+import com.loanapproval.dto.ScoringModelRequestDTO;
+import com.loanapproval.entity.ScoringModel;
+import com.loanapproval.exception.ApplicationNotFoundException;
+import com.loanapproval.exception.ValidationException;
+import com.loanapproval.repository.ScoringModelRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Owns the versioned scoring model definitions stored in scoring_models.
+ * The live version is held as an immutable {@link RiskScoringKernel} behind an atomic reference:
+ * scoring threads read it without locking, and activating a version swaps the reference once the
+ * activation has committed, so in-flight evaluations finish on the snapshot they started with.
+ * Other nodes pick up a new active version on their next scheduled refresh.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoringModelService {
+
+    // Built-in model, live until a version has been loaded from the database
+    private static final int DEFAULT_MODEL_VERSION = 1;
+    private static final BigDecimal DEFAULT_CREDIT_SCORE_WEIGHT = new BigDecimal("30.00");
+    private static final BigDecimal DEFAULT_DTI_WEIGHT = new BigDecimal("25.00");
+    private static final BigDecimal DEFAULT_EMPLOYMENT_WEIGHT = new BigDecimal("20.00");
+    private static final BigDecimal DEFAULT_LTI_WEIGHT = new BigDecimal("15.00");
+    private static final BigDecimal DEFAULT_DOCUMENT_WEIGHT = new BigDecimal("10.00");
+    private static final BigDecimal DEFAULT_AUTO_APPROVE_THRESHOLD = new BigDecimal("30.00");
+    private static final BigDecimal DEFAULT_AUTO_REJECT_THRESHOLD = new BigDecimal("60.00");
+
+    private static final BigDecimal TOTAL_WEIGHT = new BigDecimal("100");
+
+    private final ScoringModelRepository scoringModelRepository;
+
+    private static final RiskScoringKernel DEFAULT_KERNEL = toKernel(defaultModel());
+
+    private final AtomicReference<RiskScoringKernel> activeKernel = new AtomicReference<>(DEFAULT_KERNEL);
+
+    // Versions are immutable once stored, so their kernels can be cached forever
+    private final Map<Integer, RiskScoringKernel> kernelsByVersion = new ConcurrentHashMap<>();
+
+    /**
+     * The immutable snapshot of the live scoring model
+     */
+    public RiskScoringKernel getActiveKernel() {
+        return activeKernel.get();
+    }
+
+    /**
+     * The kernel of a specific version, e.g. to explain a stored score. Scores without a recorded
+     * version predate versioning and were produced by the built-in model.
+     */
+    public RiskScoringKernel getKernel(Integer version) {
+        if (version == null) {
+            return DEFAULT_KERNEL;
+        }
+        RiskScoringKernel active = activeKernel.get();
+        if (active.getModelVersion() == version) {
+            return active;
+        }
+        RiskScoringKernel kernel = kernelsByVersion.computeIfAbsent(version,
+                v -> scoringModelRepository.findByVersion(v).map(ScoringModelService::toKernel).orElse(null));
+        return kernel != null ? kernel : DEFAULT_KERNEL;
+    }
+
+    @PostConstruct
+    void loadActiveModel() {
+        refresh();
+    }
+
+    /**
+     * Re-read the active version so activations made on other nodes become live here too
+     */
+    @Scheduled(fixedDelayString = "${risk.model.refresh-interval-ms:30000}")
+    public void refresh() {
+        scoringModelRepository.findFirstByActiveTrue()
+                .filter(model -> model.getVersion() != activeKernel.get().getModelVersion())
+                .ifPresent(model -> publish(toKernel(model)));
+    }
+
+    /**
+     * Store the built-in model as version 1 when no model has been defined yet
+     */
+    @Transactional
+    public void seedDefaultModel() {
+        if (scoringModelRepository.count() > 0) {
+            return;
+        }
+        ScoringModel model = defaultModel();
+        model.setActive(true);
+        model.setActivatedAt(LocalDateTime.now());
+        model.setCreatedBy("system");
+        scoringModelRepository.save(model);
+        log.info("Seeded default scoring model version {}", model.getVersion());
+    }
+
+    public List<ScoringModelDTO> getModels() {
+        return scoringModelRepository.findAllByOrderByVersionDesc()
+                .stream()
+                .map(this::convertToDTO)
+                .toList();
+    }
+
+    public ScoringModelDTO getActiveModel() {
+        return scoringModelRepository.findFirstByActiveTrue()
+                .map(this::convertToDTO)
+                .orElseGet(() -> convertToDTO(defaultModel()));
+    }
+
+    @Transactional
+    public ScoringModelDTO createModel(ScoringModelRequestDTO requestDTO, boolean activate, String createdBy) {
+        validateModel(requestDTO);
+
+        int version = scoringModelRepository.findTopByOrderByVersionDesc()
+                .map(latest -> latest.getVersion() + 1)
+                .orElse(DEFAULT_MODEL_VERSION);
+
+        ScoringModel model = ScoringModel.builder()
+                .version(version)
+                .description(requestDTO.getDescription())
+                .creditScoreWeight(requestDTO.getCreditScoreWeight())
+                .dtiWeight(requestDTO.getDtiWeight())
+                .employmentWeight(requestDTO.getEmploymentWeight())
+                .ltiWeight(requestDTO.getLtiWeight())
+                .documentWeight(requestDTO.getDocumentWeight())
+                .autoApproveThreshold(requestDTO.getAutoApproveThreshold())
+                .autoRejectThreshold(requestDTO.getAutoRejectThreshold())
+                .active(false)
+                .createdBy(createdBy)
+                .build();
+        model = scoringModelRepository.save(model);
+
+        if (activate) {
+            activate(model);
+        }
+
+        log.info("Scoring model version {} created by {}", version, createdBy);
+        return convertToDTO(model);
+    }
+
+    @Transactional
+    public ScoringModelDTO activateModel(Integer version, String activatedBy) {
+        ScoringModel model = scoringModelRepository.findByVersion(version)
+                .orElseThrow(() -> new ApplicationNotFoundException("Scoring model not found with version: " + version));
+
+        activate(model);
+
+        log.info("Scoring model version {} activated by {}", version, activatedBy);
+        return convertToDTO(model);
+    }
+
+    private void activate(ScoringModel model) {
+        // Locking every model serializes activations; the update runs after the lock is granted, so it
+        // also sees a model another activation committed while this one waited
+        scoringModelRepository.findAllForUpdate();
+        scoringModelRepository.deactivateAllExcept(model.getId());
+        model.setActive(true);
+        model.setActivatedAt(LocalDateTime.now());
+
+        RiskScoringKernel kernel = toKernel(model);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(kernel);
+            }
+        });
+    }
+
+    private void publish(RiskScoringKernel kernel) {
+        RiskScoringKernel previous = activeKernel.getAndSet(kernel);
+        log.info("Scoring model version {} is now live (was {})", kernel.getModelVersion(), previous.getModelVersion());
+    }
+
+    private void validateModel(ScoringModelRequestDTO requestDTO) {
+        BigDecimal totalWeight = requestDTO.getCreditScoreWeight()
+                .add(requestDTO.getDtiWeight())
+                .add(requestDTO.getEmploymentWeight())
+                .add(requestDTO.getLtiWeight())
+                .add(requestDTO.getDocumentWeight());
+        if (totalWeight.compareTo(TOTAL_WEIGHT) != 0) {
+            throw new ValidationException("Factor weights must add up to 100, got " + totalWeight);
+        }
+        if (requestDTO.getAutoApproveThreshold().compareTo(requestDTO.getAutoRejectThreshold()) >= 0) {
+            throw new ValidationException("Auto-approve threshold must be below the auto-reject threshold");
+        }
+    }
+
+    private static ScoringModel defaultModel() {
+        return ScoringModel.builder()
+                .version(DEFAULT_MODEL_VERSION)
+                .description("Default five-factor model")
+                .creditScoreWeight(DEFAULT_CREDIT_SCORE_WEIGHT)
+                .dtiWeight(DEFAULT_DTI_WEIGHT)
+                .employmentWeight(DEFAULT_EMPLOYMENT_WEIGHT)
+                .ltiWeight(DEFAULT_LTI_WEIGHT)
+                .documentWeight(DEFAULT_DOCUMENT_WEIGHT)
+                .autoApproveThreshold(DEFAULT_AUTO_APPROVE_THRESHOLD)
+                .autoRejectThreshold(DEFAULT_AUTO_REJECT_THRESHOLD)
+                .active(true)
+                .build();
+    }
+
+    private static RiskScoringKernel toKernel(ScoringModel model) {
+        return new RiskScoringKernel(
+                model.getVersion(),
+                RiskScoringKernel.toUnscaled(model.getCreditScoreWeight()),
+                RiskScoringKernel.toUnscaled(model.getDtiWeight()),
+                RiskScoringKernel.toUnscaled(model.getEmploymentWeight()),
+                RiskScoringKernel.toUnscaled(model.getLtiWeight()),
+                RiskScoringKernel.toUnscaled(model.getDocumentWeight()),
+                RiskScoringKernel.toUnscaled(model.getAutoApproveThreshold()),
+                RiskScoringKernel.toUnscaled(model.getAutoRejectThreshold()));
+    }
+
+    private ScoringModelDTO convertToDTO(ScoringModel model) {
+        return ScoringModelDTO.builder()
+                .version(model.getVersion())
+                .description(model.getDescription())
+                .creditScoreWeight(model.getCreditScoreWeight())
+                .dtiWeight(model.getDtiWeight())
+                .employmentWeight(model.getEmploymentWeight())
+                .ltiWeight(model.getLtiWeight())
+                .documentWeight(model.getDocumentWeight())
+                .autoApproveThreshold(model.getAutoApproveThreshold())
+                .autoRejectThreshold(model.getAutoRejectThreshold())
+                .active(model.isActive())
+                .createdBy(model.getCreatedBy())
+                .createdAt(model.getCreatedAt())
+                .activatedAt(model.getActivatedAt())
+                .build();
+    }
+}
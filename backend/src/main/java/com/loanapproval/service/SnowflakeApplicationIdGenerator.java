@@ -0,0 +1,155 @@
+package com.loanapproval.service;
+
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Snowflake-style applicationId: 41 bits of milliseconds since 2024-01-01, 10 bits of node ID and a
+ * 12 bit per-millisecond sequence, rendered as "LA-" plus 13 Crockford base32 characters.
+ * IDs from one node are strictly increasing and sort by creation time, so inserts append to the
+ * right edge of the idx_app_id index instead of landing on random pages.
+ * The clock and sequence live in a single AtomicLong advanced with compare-and-set. When a millisecond
+ * runs out of sequence numbers, or the wall clock steps back, the logical clock moves ahead of it
+ * rather than blocking or repeating a value. On startup the logical clock is moved past the highest
+ * ID already stored, so a restart after the clock stepped back does not reissue IDs.
+ * The node ID must be configured outside the dev profile; two instances deriving theirs from a hash
+ * could pick the same one.
+ */
+@Slf4j
+@Component
+public class SnowflakeApplicationIdGenerator implements ApplicationIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final String PREFIX = "LA-";
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LoanApplicationRepository applicationRepository;
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+
+    /**
+     * (milliseconds since EPOCH_MILLIS << SEQUENCE_BITS) | sequence of the last ID issued
+     */
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeApplicationIdGenerator(@Value("${applications.id.node-id:-1}") long configuredNodeId,
+                                           Environment environment,
+                                           LoanApplicationRepository applicationRepository,
+                                           ArchivedApplicationRepository archivedApplicationRepository) {
+        if (configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("applications.id.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        if (configuredNodeId < 0) {
+            if (!environment.acceptsProfiles(Profiles.of("dev"))) {
+                throw new IllegalStateException("applications.id.node-id must be set to a node ID between 0 and "
+                        + MAX_NODE_ID + " that no other running instance uses");
+            }
+            this.nodeId = deriveNodeId();
+            log.warn("applications.id.node-id not set; derived node ID {} from host and process. "
+                    + "Set it explicitly when running more than one instance.", nodeId);
+        } else {
+            this.nodeId = configuredNodeId;
+        }
+        this.applicationRepository = applicationRepository;
+        this.archivedApplicationRepository = archivedApplicationRepository;
+    }
+
+    /**
+     * Continue after the highest ID stored by any node, live or archived
+     */
+    @PostConstruct
+    void seedFromStoredIds() {
+        Stream.of(applicationRepository.findMaxGeneratedApplicationId(),
+                        archivedApplicationRepository.findMaxGeneratedApplicationId())
+                .filter(Objects::nonNull)
+                .max(String::compareTo)
+                .ifPresent(this::advancePast);
+    }
+
+    void advancePast(String applicationId) {
+        long timestamp = decode(applicationId) >>> (NODE_BITS + SEQUENCE_BITS);
+        long state = (timestamp << SEQUENCE_BITS) | SEQUENCE_MASK;
+        lastState.accumulateAndGet(state, Math::max);
+
+        long aheadMillis = timestamp - (System.currentTimeMillis() - EPOCH_MILLIS);
+        if (aheadMillis > 0) {
+            log.warn("Stored application ID {} is {} ms ahead of the clock; new IDs continue after it", applicationId, aheadMillis);
+        }
+    }
+
+    @Override
+    public String nextId() {
+        return encode(nextValue());
+    }
+
+    long nextValue() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = lastState.get();
+            next = Math.max(previous + 1, now);
+        } while (!lastState.compareAndSet(previous, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    static String encode(long value) {
+        char[] chars = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = CROCKFORD[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    static long decode(String applicationId) {
+        if (applicationId.length() != PREFIX.length() + ENCODED_LENGTH || !applicationId.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Not a generated application ID: " + applicationId);
+        }
+        long value = 0;
+        for (int i = PREFIX.length(); i < applicationId.length(); i++) {
+            int digit = Arrays.binarySearch(CROCKFORD, applicationId.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Not a generated application ID: " + applicationId);
+            }
+            value = (value << 5) | digit;
+        }
+        return value;
+    }
+
+    private static long deriveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            host = "unknown";
+        }
+        String identity = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        return (identity.hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+    }
+}
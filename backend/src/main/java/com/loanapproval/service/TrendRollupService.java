@@ -0,0 +1,366 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.TrendDimension;
+import com.loanapproval.common.enums.TrendGranularity;
+import com.loanapproval.dto.DashboardTrendsDTO;
+import com.loanapproval.dto.RollupRebuildResultDTO;
+import com.loanapproval.dto.TrendPointDTO;
+import com.loanapproval.entity.ApplicationRollup;
+import com.loanapproval.exception.ValidationException;
+import com.loanapproval.repository.ApplicationRollupRepository;
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Hourly and daily trend rollups per loan type and employment type. Committed changes are folded into
+ * in-memory deltas and added to application_rollups on a short interval, so writers never contend on
+ * the bucket rows. Trends are read from the rollups only. A rebuild recomputes whole days from the live
+ * and archived applications; a write committing while its day is rebuilt may be counted twice, so
+ * rebuild days that are no longer receiving writes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendRollupService {
+
+    private static final Set<TrendGranularity> STORED = Set.of(TrendGranularity.HOUR, TrendGranularity.DAY);
+    private static final int MAX_BUCKETS = 744;
+
+    private final ApplicationRollupRepository rollupRepository;
+    private final LoanApplicationRepository applicationRepository;
+    private final ArchivedApplicationRepository archivedApplicationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<RollupKey, RollupDelta> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private record RollupKey(TrendGranularity granularity, LocalDateTime bucketStart, LoanType loanType, EmploymentType employmentType) {
+    }
+
+    private record PointKey(LocalDateTime bucketStart, LoanType loanType, EmploymentType employmentType) {
+    }
+
+    /**
+     * Fold a committed change into the pending deltas; called by ApplicationChangeTracker
+     */
+    void applyChange(ApplicationSnapshot before, ApplicationSnapshot after) {
+        if (before != null) {
+            contribute(before, -1, pending);
+        }
+        if (after != null) {
+            contribute(after, 1, pending);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.rollups.flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (flushLock) {
+            flushPending();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not flush trend rollups on shutdown: {}", e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DashboardTrendsDTO getTrends(TrendGranularity granularity, LocalDate from, LocalDate to,
+                                        LoanType loanType, EmploymentType employmentType, Set<TrendDimension> groupBy) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("from must not be after to");
+        }
+        if (granularity == TrendGranularity.WEEK) {
+            // Whole weeks only, so the first and last points are not partial
+            from = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            to = to.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        long buckets = switch (granularity) {
+            case HOUR -> days * 24;
+            case DAY -> days;
+            case WEEK -> days / 7;
+        };
+        if (buckets > MAX_BUCKETS) {
+            throw new ValidationException("Range spans " + buckets + " " + granularity + " buckets; at most " + MAX_BUCKETS + " are allowed");
+        }
+
+        TrendGranularity stored = granularity == TrendGranularity.WEEK ? TrendGranularity.DAY : granularity;
+        List<ApplicationRollup> rollups = rollupRepository.findBuckets(stored, from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                loanType, employmentType);
+
+        Map<PointKey, ApplicationRollup> points = new HashMap<>();
+        for (ApplicationRollup rollup : rollups) {
+            LocalDateTime bucketStart = granularity == TrendGranularity.WEEK
+                    ? rollup.getBucketStart().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : rollup.getBucketStart();
+            PointKey key = new PointKey(bucketStart,
+                    groupBy.contains(TrendDimension.LOAN_TYPE) ? rollup.getLoanType() : null,
+                    groupBy.contains(TrendDimension.EMPLOYMENT_TYPE) ? rollup.getEmploymentType() : null);
+            points.merge(key, rollup, TrendRollupService::sum);
+        }
+
+        List<TrendPointDTO> result = points.entrySet().stream()
+                .filter(entry -> !isEmpty(entry.getValue()))
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(PointKey::bucketStart)
+                        .thenComparing(PointKey::loanType, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(PointKey::employmentType, Comparator.nullsFirst(Comparator.naturalOrder()))))
+                .map(entry -> convertToDTO(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return DashboardTrendsDTO.builder()
+                .granularity(granularity)
+                .from(from)
+                .to(to)
+                .points(result)
+                .build();
+    }
+
+    /**
+     * Recompute the hourly and daily rollups of the given days, one day per transaction
+     */
+    public RollupRebuildResultDTO rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("from must not be after to");
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new ValidationException("A rollup rebuild is already running");
+        }
+
+        long start = System.currentTimeMillis();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int applications = 0;
+        int buckets = 0;
+        try {
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                LocalDate rebuiltDay = day;
+                int[] counts;
+                synchronized (flushLock) {
+                    // Deltas already pending belong to rows the rebuild is about to read
+                    flushPending();
+                    counts = transactionTemplate.execute(status -> rebuildDay(rebuiltDay));
+                }
+                applications += counts[0];
+                buckets += counts[1];
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+
+        long durationMs = System.currentTimeMillis() - start;
+        log.info("Rebuilt trend rollups from {} to {}: {} applications, {} buckets ({} ms)", from, to, applications, buckets, durationMs);
+        return RollupRebuildResultDTO.builder()
+                .from(from)
+                .to(to)
+                .applications(applications)
+                .buckets(buckets)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private int[] rebuildDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+
+        List<ApplicationSnapshot> snapshots = new ArrayList<>();
+        applicationRepository.findRollupFacts(start, end).forEach(facts -> snapshots.add(toSnapshot(facts)));
+        archivedApplicationRepository.findRollupFacts(start, end).forEach(facts -> snapshots.add(toSnapshot(facts)));
+
+        Map<RollupKey, RollupDelta> buckets = new HashMap<>();
+        snapshots.forEach(snapshot -> contribute(snapshot, 1, buckets));
+        // An application submitted and decided on different days also touches buckets of the other day
+        buckets.keySet().removeIf(key -> key.bucketStart().isBefore(start) || !key.bucketStart().isBefore(end));
+
+        rollupRepository.deleteBuckets(start, end);
+        LocalDateTime now = LocalDateTime.now();
+        List<ApplicationRollup> rollups = buckets.entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .map(entry -> {
+                    ApplicationRollup rollup = emptyRollup(entry.getKey(), now);
+                    entry.getValue().addTo(rollup);
+                    return rollup;
+                })
+                .toList();
+        rollupRepository.saveAll(rollups);
+        return new int[] {snapshots.size(), rollups.size()};
+    }
+
+    private void flushPending() {
+        Map<RollupKey, RollupDelta> batch = new HashMap<>();
+        for (RollupKey key : pending.keySet()) {
+            RollupDelta delta = pending.remove(key);
+            if (delta != null && !delta.isZero()) {
+                batch.put(key, delta);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                batch.forEach((key, delta) -> {
+                    ApplicationRollup rollup = rollupRepository.findBucketForUpdate(key.granularity(), key.bucketStart(),
+                                    key.loanType(), key.employmentType())
+                            .orElseGet(() -> emptyRollup(key, now));
+                    delta.addTo(rollup);
+                    rollup.setUpdatedAt(now);
+                    rollupRepository.save(rollup);
+                });
+            });
+        } catch (RuntimeException ex) {
+            // Keep the deltas for the next flush, e.g. when another instance inserted the same bucket first
+            batch.forEach((key, delta) -> add(pending, key, target -> target.add(delta)));
+            log.warn("Could not flush {} trend rollup deltas, will retry: {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    private static void contribute(ApplicationSnapshot snapshot, int sign, Map<RollupKey, RollupDelta> target) {
+        if (snapshot.loanType() == null || snapshot.employmentType() == null) {
+            return;
+        }
+        for (TrendGranularity granularity : STORED) {
+            if (snapshot.submittedAt() != null) {
+                add(target, key(granularity, snapshot.submittedAt(), snapshot), delta -> {
+                    delta.submitted += sign;
+                    if (snapshot.riskScore() != null) {
+                        delta.scored += sign;
+                        delta.riskScoreSum = delta.riskScoreSum.add(sign > 0 ? snapshot.riskScore() : snapshot.riskScore().negate());
+                    }
+                });
+            }
+            if (snapshot.reviewedAt() != null && snapshot.status() == LoanStatus.APPROVED) {
+                add(target, key(granularity, snapshot.reviewedAt(), snapshot), delta -> delta.approved += sign);
+            } else if (snapshot.reviewedAt() != null && snapshot.status() == LoanStatus.REJECTED) {
+                add(target, key(granularity, snapshot.reviewedAt(), snapshot), delta -> delta.rejected += sign);
+            }
+        }
+    }
+
+    private static void add(Map<RollupKey, RollupDelta> target, RollupKey key, Consumer<RollupDelta> change) {
+        target.compute(key, (k, delta) -> {
+            RollupDelta result = delta != null ? delta : new RollupDelta();
+            change.accept(result);
+            return result;
+        });
+    }
+
+    private static RollupKey key(TrendGranularity granularity, LocalDateTime time, ApplicationSnapshot snapshot) {
+        LocalDateTime bucketStart = time.truncatedTo(granularity == TrendGranularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+        return new RollupKey(granularity, bucketStart, snapshot.loanType(), snapshot.employmentType());
+    }
+
+    private static ApplicationSnapshot toSnapshot(LoanApplicationRepository.RollupFacts facts) {
+        return new ApplicationSnapshot(facts.getId(), null, null, null, facts.getStatus(), facts.getLoanType(),
+                facts.getEmploymentType(), facts.getRiskScore(), facts.getSubmittedAt(), facts.getReviewedAt());
+    }
+
+    private static ApplicationRollup emptyRollup(RollupKey key, LocalDateTime now) {
+        return ApplicationRollup.builder()
+                .granularity(key.granularity())
+                .bucketStart(key.bucketStart())
+                .loanType(key.loanType())
+                .employmentType(key.employmentType())
+                .riskScoreSum(BigDecimal.ZERO)
+                .updatedAt(now)
+                .build();
+    }
+
+    private static ApplicationRollup sum(ApplicationRollup a, ApplicationRollup b) {
+        return ApplicationRollup.builder()
+                .submittedCount(a.getSubmittedCount() + b.getSubmittedCount())
+                .approvedCount(a.getApprovedCount() + b.getApprovedCount())
+                .rejectedCount(a.getRejectedCount() + b.getRejectedCount())
+                .scoredCount(a.getScoredCount() + b.getScoredCount())
+                .riskScoreSum(a.getRiskScoreSum().add(b.getRiskScoreSum()))
+                .build();
+    }
+
+    private static boolean isEmpty(ApplicationRollup rollup) {
+        return rollup.getSubmittedCount() == 0 && rollup.getApprovedCount() == 0 && rollup.getRejectedCount() == 0;
+    }
+
+    private static TrendPointDTO convertToDTO(PointKey key, ApplicationRollup rollup) {
+        long decided = rollup.getApprovedCount() + rollup.getRejectedCount();
+        double approvalRate = decided > 0 ? (rollup.getApprovedCount() * 100.0) / decided : 0.0;
+        Double averageRiskScore = rollup.getScoredCount() > 0
+                ? rollup.getRiskScoreSum().divide(BigDecimal.valueOf(rollup.getScoredCount()), 2, RoundingMode.HALF_UP).doubleValue()
+                : null;
+
+        return TrendPointDTO.builder()
+                .bucketStart(key.bucketStart())
+                .loanType(key.loanType())
+                .employmentType(key.employmentType())
+                .submittedApplications(rollup.getSubmittedCount())
+                .approvedApplications(rollup.getApprovedCount())
+                .rejectedApplications(rollup.getRejectedCount())
+                .approvalRate(Math.round(approvalRate * 100.0) / 100.0)
+                .averageRiskScore(averageRiskScore)
+                .build();
+    }
+
+    /**
+     * Change to one bucket that has not reached the database yet
+     */
+    private static final class RollupDelta {
+        private long submitted;
+        private long approved;
+        private long rejected;
+        private long scored;
+        private BigDecimal riskScoreSum = BigDecimal.ZERO;
+
+        void add(RollupDelta other) {
+            submitted += other.submitted;
+            approved += other.approved;
+            rejected += other.rejected;
+            scored += other.scored;
+            riskScoreSum = riskScoreSum.add(other.riskScoreSum);
+        }
+
+        void addTo(ApplicationRollup rollup) {
+            rollup.setSubmittedCount(rollup.getSubmittedCount() + submitted);
+            rollup.setApprovedCount(rollup.getApprovedCount() + approved);
+            rollup.setRejectedCount(rollup.getRejectedCount() + rejected);
+            rollup.setScoredCount(rollup.getScoredCount() + scored);
+            rollup.setRiskScoreSum(rollup.getRiskScoreSum().add(riskScoreSum));
+        }
+
+        boolean isZero() {
+            return submitted == 0 && approved == 0 && rejected == 0 && scored == 0 && riskScoreSum.signum() == 0;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.loanapproval.config;
+
+import com.loanapproval.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles({"dev", "replica"})
+// The dev database runs in PostgreSQL mode, which the jsonb columns need
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaDataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "LOAN_APPROVAL_DB";
+    private static final String REPLICA = "LOAN_APPROVAL_REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearPrincipal() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertEquals(REPLICA, inTransaction(true, this::database));
+        assertEquals(PRIMARY, inTransaction(false, this::database));
+        assertEquals(PRIMARY, database());
+    }
+
+    @Test
+    void replicaHasTheSchemaButNotTheRows() {
+        String email = "replica-test-" + System.nanoTime() + "@example.com";
+        inTransaction(false, () -> jdbcTemplate.update("INSERT INTO users (id, name, email, password, role, active, created_at) "
+                + "VALUES (NEXT VALUE FOR users_seq, 'Replica Test', ?, 'x', 'CUSTOMER', TRUE, ?)", email, LocalDateTime.now()));
+
+        assertEquals(true, inTransaction(false, () -> userRepository.existsByEmail(email)));
+        assertEquals(false, inTransaction(true, () -> userRepository.existsByEmail(email)));
+    }
+
+    @Test
+    void ownWriteKeepsReadsOnThePrimaryForTheWindow() {
+        signIn("writer@example.com");
+        inTransaction(false, this::database);
+        assertEquals(PRIMARY, inTransaction(true, this::database));
+
+        signIn("reader@example.com");
+        assertEquals(REPLICA, inTransaction(true, this::database));
+    }
+
+    @Test
+    void onPrimaryOverridesAReadOnlyTransaction() {
+        assertEquals(PRIMARY, inTransaction(true, () -> ReplicaRoutingDataSource.onPrimary(this::database)));
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private <T> T inTransaction(boolean readOnly, Supplier<T> work) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> work.get());
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER"))));
+    }
+}
@@ -0,0 +1,151 @@
+package com.loanapproval.config;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.entity.LoanApplication;
+import com.loanapproval.repository.LoanApplicationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("dev")
+// The dev database runs in PostgreSQL mode, which the jsonb columns need
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SequenceAligner.class)
+class SequenceAlignerTest {
+
+    private static final int APPLICATIONS = 200;
+
+    @Autowired
+    private LoanApplicationRepository applicationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SequenceAligner sequenceAligner;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Test
+    void saveAllBatchesInsertsAndFetchesIdsInBlocks() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<LoanApplication> applications = IntStream.range(0, APPLICATIONS).mapToObj(SequenceAlignerTest::application).toList();
+
+        statistics.clear();
+        applicationRepository.saveAll(applications);
+        entityManager.flush();
+
+        assertTrue(batchSize > 1, "JDBC batching is off");
+        assertEquals(APPLICATIONS, statistics.getEntityInsertCount());
+        // One statement per JDBC batch plus one sequence call per allocation block, instead of one per row
+        long sequenceCalls = APPLICATIONS / SequenceAligner.ALLOCATION_SIZE + 1;
+        long maxStatements = APPLICATIONS / batchSize + sequenceCalls;
+        assertTrue(statistics.getPrepareStatementCount() <= maxStatements,
+                "Expected at most " + maxStatements + " statements, got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void alignerMovesEverySequencePastStoredIds() {
+        Map<String, Long> maxIds = new LinkedHashMap<>();
+        maxIds.put("users", 1_000L);
+        maxIds.put("scoring_models", 2_000L);
+        maxIds.put("loan_applications", 3_000L);
+        maxIds.put("loan_documents", 4_000L);
+        maxIds.put("risk_factors", 5_000L);
+        maxIds.put("audit_logs", 6_000L);
+        maxIds.put("officer_notes", 7_000L);
+
+        // Rows written while ids came from IDENTITY columns, with the sequences still at their start
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            jdbcTemplate.update("INSERT INTO users (id, name, email, password, role, active, created_at) " +
+                    "VALUES (1000, 'Legacy', 'legacy@example.com', 'x', 'CUSTOMER', TRUE, CURRENT_TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO scoring_models (id, version, credit_score_weight, dti_weight, employment_weight, " +
+                    "lti_weight, document_weight, auto_approve_threshold, auto_reject_threshold, active, created_at) " +
+                    "VALUES (2000, 900, 30, 25, 20, 15, 10, 30, 60, FALSE, CURRENT_TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO loan_applications (id, version, application_id, applicant_name, email, phone, loan_type, " +
+                    "loan_amount, loan_term, purpose, annual_income, monthly_expenses, credit_score, existing_debts, employment_type, " +
+                    "employment_duration, status, submitted_at, created_at) VALUES (3000, 0, 'LA-LEGACY', 'Legacy', 'legacy@example.com', " +
+                    "'555', 'PERSONAL', 1000, 12, 'Legacy', 50000, 1000, 700, 0, 'SALARIED', 3, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO loan_documents (id, file_name, file_url, file_size, document_type, verified, " +
+                    "loan_application_id, uploaded_at, created_at) VALUES (4000, 'a.pdf', 'a.pdf', 1, 'ID_PROOF', FALSE, 3000, " +
+                    "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO risk_factors (id, factor_name, metric_value, weight, score, status, loan_application_id, created_at) " +
+                    "VALUES (5000, 'Credit Score', 700, 30, 72, 'GOOD', 3000, CURRENT_TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO audit_logs (id, action, performed_by, loan_application_id, created_at) " +
+                    "VALUES (6000, 'CREATED', 'legacy@example.com', 3000, CURRENT_TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO officer_notes (id, author, note, loan_application_id, created_at) " +
+                    "VALUES (7000, 'officer@example.com', 'Legacy', 3000, CURRENT_TIMESTAMP)");
+            maxIds.keySet().forEach(table -> jdbcTemplate.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH 1"));
+
+            sequenceAligner.alignSequences();
+
+            maxIds.forEach((table, maxId) -> {
+                Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + table + "_seq", Long.class);
+                // The pooled optimizer hands out (next - ALLOCATION_SIZE, next]
+                assertTrue(next - SequenceAligner.ALLOCATION_SIZE >= maxId,
+                        table + "_seq hands out " + (next - SequenceAligner.ALLOCATION_SIZE + 1) + " but max id is " + maxId);
+            });
+        } finally {
+            List.of("officer_notes", "audit_logs", "risk_factors", "loan_documents", "loan_applications", "scoring_models", "users")
+                    .forEach(table -> jdbcTemplate.update("DELETE FROM " + table + " WHERE id = ?", maxIds.get(table)));
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    private static LoanApplication application(int i) {
+        LocalDateTime now = LocalDateTime.now();
+        return LoanApplication.builder()
+                .applicationId("LA-TEST-" + i)
+                .applicantName("Applicant " + i)
+                .email("applicant" + i + "@example.com")
+                .phone("555-0100")
+                .loanType(LoanType.PERSONAL)
+                .loanAmount(new BigDecimal("10000.00"))
+                .loanTerm(36)
+                .purpose("Test")
+                .annualIncome(new BigDecimal("60000.00"))
+                .monthlyExpenses(new BigDecimal("1500.00"))
+                .creditScore(700)
+                .existingDebts(BigDecimal.ZERO)
+                .employmentType(EmploymentType.SALARIED)
+                .employmentDuration(3)
+                .status(LoanStatus.PENDING)
+                .version(0L)
+                .submittedAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
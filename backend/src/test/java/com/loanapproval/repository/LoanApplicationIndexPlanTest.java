@@ -0,0 +1,174 @@
+package com.loanapproval.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plans of the list filters on PostgreSQL with enough rows that a sequential scan would be chosen
+ * if the composite indexes on loan_applications did not fit the queries. Filters on common values
+ * are answered cheaper by reading the newest rows off idx_submitted_at_id, so the composite indexes
+ * are checked with the selective values a review queue asks for.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@ActiveProfiles("postgres")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LoanApplicationIndexPlanTest {
+
+    private static final int APPLICATIONS = 50_000;
+
+    // Same columns as LoanApplicationRepository.SUMMARY_SELECT, newest first, one page
+    private static final String SUMMARY_PAGE = "SELECT la.id, la.application_id, la.applicant_name, la.email, la.loan_type, "
+            + "la.loan_amount, la.loan_term, la.credit_score, la.employment_type, la.risk_score, la.scoring_status, la.status, "
+            + "la.submitted_at, la.reviewed_at, la.assigned_officer FROM loan_applications la WHERE %s "
+            + "ORDER BY la.submitted_at DESC, la.id DESC OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY";
+
+    // Keyset predicates of LoanApplicationRepository.findPageBefore/findPageAfter at a cursor deep in the list
+    private static final String BEFORE = "la.submitted_at <= %1$s AND (la.submitted_at < %1$s "
+            + "OR (la.submitted_at = %1$s AND la.id < %2$d))";
+    private static final String AFTER = "la.submitted_at >= %1$s AND (la.submitted_at > %1$s "
+            + "OR (la.submitted_at = %1$s AND la.id > %2$d))";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loan_applications", Long.class);
+        if (rows != null && rows > 0) {
+            return;
+        }
+        // Mostly decided applications with 2% PENDING and 2% MANUAL_REVIEW, 2% EDUCATION loans,
+        // 500 officers and one submission a minute
+        jdbcTemplate.update("INSERT INTO loan_applications (id, version, application_id, applicant_name, email, phone, loan_type, "
+                + "loan_amount, loan_term, purpose, annual_income, monthly_expenses, credit_score, existing_debts, employment_type, "
+                + "employment_duration, status, submitted_at, created_at, assigned_officer) "
+                + "SELECT g, 0, 'LA-PLAN-' || g, 'Applicant ' || g, 'applicant' || (g % 5000) || '@example.com', '555', "
+                + "CASE WHEN g % 50 = 7 THEN 'EDUCATION' ELSE (ARRAY['PERSONAL', 'HOME', 'AUTO', 'BUSINESS'])[g % 4 + 1] END, "
+                + "1000 + g, 36, 'Test', 60000, 1500, 300 + g % 550, 0, 'SALARIED', 3, "
+                + "CASE g % 50 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'MANUAL_REVIEW' ELSE (ARRAY['APPROVED', 'REJECTED'])[g % 2 + 1] END, "
+                + "TIMESTAMP '2025-01-01 00:00:00' + g * INTERVAL '1 minute', now(), 'officer' || (g % 500) || '@example.com' "
+                + "FROM generate_series(1, " + APPLICATIONS + ") g");
+        jdbcTemplate.execute("ANALYZE loan_applications");
+    }
+
+    @Test
+    void statusFilterScansStatusIndex() {
+        String plan = explain(String.format(SUMMARY_PAGE, "la.status = 'PENDING'"));
+        assertUsesIndex(plan, "idx_status_submitted_at_id");
+    }
+
+    @Test
+    void loanTypeFilterScansLoanTypeIndex() {
+        String plan = explain(String.format(SUMMARY_PAGE, "la.loan_type = 'EDUCATION'"));
+        assertUsesIndex(plan, "idx_loan_type_submitted_at_id");
+    }
+
+    @Test
+    void statusAndLoanTypeFilterScansOneOfTheirIndexes() {
+        String plan = explain(String.format(SUMMARY_PAGE, "la.status = 'PENDING' AND la.loan_type = 'PERSONAL'"));
+        assertFalse(plan.contains("Seq Scan"), plan);
+        assertTrue(plan.contains("idx_status_submitted_at_id") || plan.contains("idx_loan_type_submitted_at_id"), plan);
+    }
+
+    @Test
+    void officerFilterScansOfficerIndex() {
+        String plan = explain(String.format(SUMMARY_PAGE, "la.assigned_officer = 'officer7@example.com'"));
+        assertUsesIndex(plan, "idx_officer_status");
+    }
+
+    @Test
+    void officerAndStatusFilterScansOfficerIndex() {
+        String plan = explain(String.format(SUMMARY_PAGE,
+                "la.assigned_officer = 'officer1@example.com' AND la.status = 'MANUAL_REVIEW'"));
+        assertUsesIndex(plan, "idx_officer_status");
+    }
+
+    @Test
+    void officerDashboardCountsScanOfficerIndex() {
+        String plan = explain("SELECT la.status, COUNT(*) FROM loan_applications la "
+                + "WHERE la.assigned_officer = 'officer7@example.com' GROUP BY la.status");
+        assertUsesIndex(plan, "idx_officer_status");
+    }
+
+    @Test
+    void unfilteredPageScansSubmittedAtIndex() {
+        String plan = explain(String.format(SUMMARY_PAGE, "TRUE"));
+        assertUsesIndex(plan, "idx_submitted_at_id");
+    }
+
+    @Test
+    void pageBeforeCursorStartsTheScanAtTheCursor() {
+        String plan = explain(String.format(SUMMARY_PAGE, keyset(BEFORE, 1000)));
+        assertScansFromCursor(plan, "idx_submitted_at_id");
+    }
+
+    @Test
+    void pageAfterCursorStartsTheScanAtTheCursor() {
+        String plan = explain(ascending(String.format(SUMMARY_PAGE, keyset(AFTER, APPLICATIONS - 1000))));
+        assertScansFromCursor(plan, "idx_submitted_at_id");
+    }
+
+    @Test
+    void ownPageBeforeCursorStartsTheScanAtTheCursor() {
+        String plan = explain(String.format(SUMMARY_PAGE, "la.email = 'applicant7@example.com' AND " + keyset(BEFORE, 1000)));
+        assertScansFromCursor(plan, "idx_email_submitted_at_id");
+    }
+
+    @Test
+    void ownPageAfterCursorStartsTheScanAtTheCursor() {
+        String plan = explain(ascending(String.format(SUMMARY_PAGE,
+                "la.email = 'applicant7@example.com' AND " + keyset(AFTER, APPLICATIONS - 1000))));
+        assertScansFromCursor(plan, "idx_email_submitted_at_id");
+    }
+
+    private static String keyset(String predicate, int g) {
+        return String.format(predicate, "TIMESTAMP '2025-01-01 00:00:00' + " + g + " * INTERVAL '1 minute'", g);
+    }
+
+    private static String ascending(String sql) {
+        return sql.replace(" DESC", " ASC");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        assertFalse(plan.contains("Seq Scan"), plan);
+        // "Index Scan [Backward] using <index>", "Index Only Scan using <index>" or "Bitmap Index Scan on <index>"
+        assertTrue(plan.contains("using " + index + " ") || plan.contains("on " + index), plan);
+    }
+
+    private static void assertScansFromCursor(String plan, String index) {
+        assertUsesIndex(plan, index);
+        // A bound in the filter alone would read the index from its first entry up to the cursor
+        assertTrue(plan.matches("(?s).*Index Cond: .*submitted_at [<>]= .*"), plan);
+    }
+}
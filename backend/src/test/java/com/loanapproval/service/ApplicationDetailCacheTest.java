@@ -0,0 +1,71 @@
+package com.loanapproval.service;
+
+import com.loanapproval.dto.CacheStatsDTO;
+import com.loanapproval.dto.LoanApplicationResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ApplicationDetailCacheTest {
+
+    private final ApplicationDetailCache cache = new ApplicationDetailCache(10);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void secondReadIsServedFromTheCacheByEitherKey() {
+        LoanApplicationResponseDTO first = cache.getById(1L, () -> load(1L, "LA-1"));
+
+        assertSame(first, cache.getById(1L, () -> load(1L, "LA-1")));
+        assertSame(first, cache.getByApplicationId("LA-1", () -> load(1L, "LA-1")));
+        assertEquals(1, loads.get());
+
+        CacheStatsDTO stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(2.0 / 3, stats.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void evictedApplicationIsLoadedAgainByEitherKey() {
+        cache.getByApplicationId("LA-1", () -> load(1L, "LA-1"));
+        cache.evict(1L);
+
+        cache.getByApplicationId("LA-1", () -> load(1L, "LA-1"));
+        cache.evict(1L);
+        cache.getById(1L, () -> load(1L, "LA-1"));
+
+        assertEquals(3, loads.get());
+        assertEquals(3, cache.getStats().getMisses());
+    }
+
+    @Test
+    void loadRacingAnEvictionIsNotCached() {
+        // The writer commits and evicts while the reader is still loading the old state
+        cache.getById(1L, () -> {
+            LoanApplicationResponseDTO stale = load(1L, "LA-1");
+            cache.evict(1L);
+            return stale;
+        });
+
+        cache.getById(1L, () -> load(1L, "LA-1"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        ApplicationDetailCache disabled = new ApplicationDetailCache(0);
+        disabled.getById(1L, () -> load(1L, "LA-1"));
+        disabled.getById(1L, () -> load(1L, "LA-1"));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, disabled.getStats().getSize());
+    }
+
+    private LoanApplicationResponseDTO load(Long id, String applicationId) {
+        loads.incrementAndGet();
+        return LoanApplicationResponseDTO.builder().id(id).applicationId(applicationId).build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.UserRole;
+import com.loanapproval.dto.ApplicationEventDTO;
+import com.loanapproval.dto.DashboardDeltaDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApplicationEventBroadcasterTest {
+
+    private static final long SEND_TIMEOUT_MS = 200;
+
+    private final ApplicationEventBroadcaster broadcaster = new ApplicationEventBroadcaster();
+
+    @BeforeEach
+    void startBroadcaster() {
+        ReflectionTestUtils.setField(broadcaster, "bufferSize", 16);
+        ReflectionTestUtils.setField(broadcaster, "timeoutMs", 0L);
+        // One sender, so a single stuck connection would otherwise block every subscriber
+        ReflectionTestUtils.setField(broadcaster, "senderThreads", 1);
+        ReflectionTestUtils.setField(broadcaster, "sendTimeoutMs", SEND_TIMEOUT_MS);
+        broadcaster.startSenders();
+    }
+
+    @AfterEach
+    void stopBroadcaster() {
+        broadcaster.stopSenders();
+    }
+
+    @Test
+    void stalledSubscriberIsEvictedAndOthersKeepReceiving() throws Exception {
+        StuckEmitter stuck = new StuckEmitter();
+        broadcaster.subscribe("stuck@example.com", UserRole.ADMIN, stuck);
+        assertTrue(stuck.sendStarted.await(5, TimeUnit.SECONDS));
+
+        RecordingEmitter healthy = new RecordingEmitter(2);
+        broadcaster.subscribe("healthy@example.com", UserRole.ADMIN, healthy);
+        broadcaster.publishApplicationEvent(new ApplicationEventDTO(), "customer@example.com");
+
+        Thread.sleep(SEND_TIMEOUT_MS * 2);
+        assertEquals(0, healthy.events.size(), "the healthy subscriber was served before the stuck send was evicted");
+        broadcaster.evictStalledSubscribers();
+
+        // The connected comment and the application event
+        assertTrue(healthy.received.await(5, TimeUnit.SECONDS), "healthy subscriber starved behind a stuck send");
+        assertFalse(stuck.completed.await(100, TimeUnit.MILLISECONDS), "completed while a send was still in progress");
+
+        stuck.release.countDown();
+        assertTrue(stuck.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void subscriberWithinTheSendTimeoutIsKept() throws Exception {
+        RecordingEmitter healthy = new RecordingEmitter(2);
+        broadcaster.subscribe("healthy@example.com", UserRole.ADMIN, healthy);
+        broadcaster.evictStalledSubscribers();
+        broadcaster.publishApplicationEvent(new ApplicationEventDTO(), "customer@example.com");
+
+        assertTrue(healthy.received.await(5, TimeUnit.SECONDS));
+        assertEquals(0, healthy.completions.size());
+    }
+
+    @Test
+    void dashboardDeltasOnlyReachAdmins() throws Exception {
+        // Connected comment, delta and application event for the admin; no delta for the officer
+        RecordingEmitter admin = new RecordingEmitter(3);
+        RecordingEmitter officer = new RecordingEmitter(2);
+        broadcaster.subscribe("admin@example.com", UserRole.ADMIN, admin);
+        broadcaster.subscribe("officer@example.com", UserRole.OFFICER, officer);
+
+        broadcaster.publishDashboardDelta(DashboardDeltaDTO.builder().deltas(Map.of("pendingApplications", 1L)).build());
+        // Each subscriber's events go out in order, so this one arriving means the delta was handled
+        broadcaster.publishApplicationEvent(new ApplicationEventDTO(), "customer@example.com");
+
+        assertTrue(admin.received.await(5, TimeUnit.SECONDS));
+        assertTrue(officer.received.await(5, TimeUnit.SECONDS));
+        assertEquals(3, admin.events.size());
+        assertEquals(2, officer.events.size());
+    }
+
+    private static final class StuckEmitter extends SseEmitter {
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            // Stands in for a write to a client that stopped reading
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+        private final List<Boolean> completions = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+
+        private RecordingEmitter(int expectedEvents) {
+            this.received = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder);
+            received.countDown();
+        }
+
+        @Override
+        public void complete() {
+            completions.add(true);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.EmploymentType;
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.common.enums.ScoringStatus;
+import com.loanapproval.dto.ApplicationExportRowDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApplicationExportServiceTest {
+
+    @Test
+    void formulaPrefixesAreNeutralized() {
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\"", ApplicationExportService.csvField("=HYPERLINK(\"http://x\")"));
+        assertEquals("'=1+2", ApplicationExportService.csvField("=1+2"));
+        assertEquals("'+1", ApplicationExportService.csvField("+1"));
+        assertEquals("'-2+3", ApplicationExportService.csvField("-2+3"));
+        assertEquals("'@SUM(A1:A2)", ApplicationExportService.csvField("@SUM(A1:A2)"));
+        assertEquals("'\tcmd", ApplicationExportService.csvField("\tcmd"));
+        assertEquals("\"'\r=1\"", ApplicationExportService.csvField("\r=1"));
+    }
+
+    @Test
+    void formulaWithCommaIsPrefixedThenQuoted() {
+        assertEquals("\"'=SUM(A1,A2)\"", ApplicationExportService.csvField("=SUM(A1,A2)"));
+    }
+
+    @Test
+    void ordinaryValuesAreUnchanged() {
+        assertEquals("", ApplicationExportService.csvField(null));
+        assertEquals("", ApplicationExportService.csvField(""));
+        assertEquals("Jane Smith", ApplicationExportService.csvField("Jane Smith"));
+        assertEquals("a=b", ApplicationExportService.csvField("a=b"));
+        assertEquals("\"Smith, Jane\"", ApplicationExportService.csvField("Smith, Jane"));
+        assertEquals("-1500.00", ApplicationExportService.csvField(new BigDecimal("-1500.00")));
+        assertEquals("-3", ApplicationExportService.csvField(-3));
+    }
+
+    @Test
+    void rowHasAColumnForEveryHeader() throws IOException {
+        ApplicationExportRowDTO row = ApplicationExportRowDTO.builder()
+                .id(7L).applicationId("LA-7").applicantName("Jane Smith").email("jane@example.com")
+                .loanType(LoanType.HOME).loanAmount(new BigDecimal("250000.00")).loanTerm(360).purpose("First home")
+                .annualIncome(new BigDecimal("90000.00")).monthlyExpenses(new BigDecimal("2100.00"))
+                .existingDebts(new BigDecimal("12000.00")).creditScore(740).employmentType(EmploymentType.SALARIED)
+                .employmentDuration(6).employerName("Acme Corp").dtiRatio(new BigDecimal("28.00"))
+                .ltiRatio(new BigDecimal("2.78")).riskScore(new BigDecimal("31.50")).riskModelVersion(3)
+                .scoringStatus(ScoringStatus.COMPLETED).status(LoanStatus.APPROVED)
+                .submittedAt(LocalDateTime.of(2025, 3, 1, 9, 30)).reviewedAt(LocalDateTime.of(2025, 3, 2, 14, 0))
+                .reviewedBy("officer@example.com")
+                .build();
+        StringWriter out = new StringWriter();
+
+        ApplicationExportService.writeCsv(out, row);
+
+        assertEquals(ApplicationExportService.CSV_HEADER.split(",").length, out.toString().split(",", -1).length);
+        assertEquals("7,LA-7,Jane Smith,jane@example.com,HOME,250000.00,360,First home,90000.00,2100.00,12000.00,740,"
+                + "SALARIED,6,Acme Corp,28.00,2.78,31.50,3,COMPLETED,APPROVED,2025-03-01T09:30,2025-03-02T14:00,"
+                + "officer@example.com,", out.toString());
+    }
+}
@@ -0,0 +1,169 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.LoanStatus;
+import com.loanapproval.common.enums.LoanType;
+import com.loanapproval.entity.DashboardCounter;
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.DashboardCounterRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DashboardStatsEngineTest {
+
+    private final LoanApplicationRepository applicationRepository = mock(LoanApplicationRepository.class);
+    private final ArchivedApplicationRepository archivedApplicationRepository = mock(ArchivedApplicationRepository.class);
+    private final DashboardCounterRepository dashboardCounterRepository = mock(DashboardCounterRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final DashboardStatsEngine engine = newEngine();
+
+    // dashboard_counters, shared by every engine of a test
+    private final Map<String, Long> storedCounters = new ConcurrentHashMap<>();
+
+    // PENDING rows the count query sees
+    private final AtomicLong pendingInDatabase = new AtomicLong();
+    private final CountDownLatch countStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseCount = new CountDownLatch(1);
+
+    @BeforeEach
+    void stubRepositories() {
+        LoanApplicationRepository.StatusCount pendingCount = mock(LoanApplicationRepository.StatusCount.class);
+        when(pendingCount.getStatus()).thenReturn(LoanStatus.PENDING);
+        when(pendingCount.getCount()).thenAnswer(invocation -> pendingInDatabase.get());
+        when(applicationRepository.countGroupedByStatus()).thenAnswer(invocation -> {
+            countStarted.countDown();
+            assertTrue(releaseCount.await(5, TimeUnit.SECONDS));
+            return List.of(pendingCount);
+        });
+        when(archivedApplicationRepository.countGroupedByStatus()).thenReturn(List.of());
+        LoanApplicationRepository.ProcessingTotals noneProcessed = processingTotals();
+        when(applicationRepository.sumProcessingTime()).thenReturn(noneProcessed);
+        when(archivedApplicationRepository.sumProcessingTime()).thenReturn(noneProcessed);
+        when(dashboardCounterRepository.findAll()).thenAnswer(invocation -> storedRows());
+        when(dashboardCounterRepository.findAllForUpdate()).thenAnswer(invocation -> storedRows());
+        when(dashboardCounterRepository.addToValue(anyString(), anyLong(), any())).thenAnswer(invocation ->
+                storedCounters.computeIfPresent(invocation.getArgument(0), (name, value) -> value + (long) invocation.getArgument(1)) != null ? 1 : 0);
+        when(dashboardCounterRepository.save(any())).thenAnswer(invocation -> {
+            DashboardCounter counter = invocation.getArgument(0);
+            storedCounters.put(counter.getName(), counter.getValue());
+            return counter;
+        });
+        when(dashboardCounterRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<DashboardCounter> counters = invocation.getArgument(0);
+            counters.forEach(counter -> storedCounters.put(counter.getName(), counter.getValue()));
+            return List.of();
+        });
+    }
+
+    @Test
+    void changeCommittedBeforeTheCountIsNotCountedTwice() throws Exception {
+        // The writer is between its commit and applying the change when reconcile starts
+        assertTrue(engine.lockForCommit());
+        releaseCount.countDown();
+        CompletableFuture<Void> reconcile = CompletableFuture.runAsync(engine::reconcile);
+
+        assertFalse(countStarted.await(200, TimeUnit.MILLISECONDS), "reconcile counted while a commit was being applied");
+        pendingInDatabase.set(1);
+        engine.applyChange(null, pendingApplication());
+        engine.unlockAfterCommit();
+        reconcile.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, engine.getStats().getPendingApplications());
+    }
+
+    @Test
+    void changeCommittingDuringTheCountIsAppliedAfterIt() throws Exception {
+        CompletableFuture<Void> reconcile = CompletableFuture.runAsync(engine::reconcile);
+        assertTrue(countStarted.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            assertTrue(engine.lockForCommit());
+            try {
+                engine.applyChange(null, pendingApplication());
+            } finally {
+                engine.unlockAfterCommit();
+            }
+        });
+        Thread.sleep(200);
+        assertFalse(writer.isDone(), "a change committed while reconcile was counting");
+
+        releaseCount.countDown();
+        reconcile.get(5, TimeUnit.SECONDS);
+        writer.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, engine.getStats().getPendingApplications());
+    }
+
+    @Test
+    void everyInstanceSeesTheChangesOfTheOthersAfterASync() {
+        DashboardStatsEngine other = newEngine();
+        engine.applyChange(null, pendingApplication());
+        other.applyChange(null, pendingApplication());
+
+        // Each instance sees its own change before syncing
+        assertEquals(1, engine.getStats().getPendingApplications());
+        engine.sync();
+        other.sync();
+        engine.sync();
+
+        assertEquals(2, storedCounters.get("status.PENDING"));
+        assertEquals(2, engine.getStats().getPendingApplications());
+        assertEquals(2, other.getStats().getPendingApplications());
+    }
+
+    @Test
+    void reconcileDoesNotCountUnsyncedChangesTwice() {
+        releaseCount.countDown();
+        pendingInDatabase.set(1);
+        storedCounters.put("status.PENDING", 0L);
+        engine.applyChange(null, pendingApplication());
+
+        engine.reconcile();
+        engine.sync();
+
+        assertEquals(1, storedCounters.get("status.PENDING"));
+        assertEquals(1, engine.getStats().getPendingApplications());
+    }
+
+    private DashboardStatsEngine newEngine() {
+        return new DashboardStatsEngine(applicationRepository, archivedApplicationRepository, dashboardCounterRepository,
+                transactionManager);
+    }
+
+    private List<DashboardCounter> storedRows() {
+        return storedCounters.entrySet().stream()
+                .map(entry -> new DashboardCounter(entry.getKey(), entry.getValue(), LocalDateTime.now()))
+                .toList();
+    }
+
+    private static ApplicationSnapshot pendingApplication() {
+        return new ApplicationSnapshot(1L, "LA-1", "customer@example.com", null, LoanStatus.PENDING, LoanType.PERSONAL,
+                null, null, LocalDateTime.now(), null);
+    }
+
+    private static LoanApplicationRepository.ProcessingTotals processingTotals() {
+        LoanApplicationRepository.ProcessingTotals totals = mock(LoanApplicationRepository.ProcessingTotals.class);
+        when(totals.getCount()).thenReturn(0L);
+        when(totals.getSeconds()).thenReturn(null);
+        return totals;
+    }
+}
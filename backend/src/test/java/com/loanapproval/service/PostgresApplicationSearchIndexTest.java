@@ -0,0 +1,122 @@
+package com.loanapproval.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@ActiveProfiles("postgres")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PostgresApplicationSearchIndex.class)
+class PostgresApplicationSearchIndexTest {
+
+    private static final int FILLER_APPLICATIONS = 20_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private PostgresApplicationSearchIndex searchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loan_applications", Long.class);
+        if (rows != null && rows > 0) {
+            return;
+        }
+        insert(1, "Jane Smith", "Acme Corp", "Home renovation");
+        insert(2, "Janet Doe", "Smith and Sons", "Car purchase");
+        insert(3, "John Major", "Initech", "Wedding for jane smith");
+        insert(4, "Jana Smithers", null, "Tuition");
+        insert(5, "Jane Smyth", "Globex", "Debt consolidation");
+        // Unrelated applications so the planner has a reason to use the GIN index
+        jdbcTemplate.update(insertSql("SELECT g, 'LA-FILL-' || g, 'Filler ' || g, 'Employer ' || (g % 300), 'Business expansion'"
+                + " FROM generate_series(1000, " + (1000 + FILLER_APPLICATIONS) + ") g"));
+        // VACUUM refreshes the GIN statistics the planner costs the index with; they were taken on an empty table
+        jdbcTemplate.execute("VACUUM ANALYZE loan_applications");
+    }
+
+    @Test
+    void everyTermMustMatchAsAPrefix() {
+        ApplicationSearchIndex.SearchHits hits = searchIndex.search("jane smith", 0, 10);
+
+        // "Janet" and "Smith and Sons" count; "Jana Smithers" lacks the "jane" prefix, "Jane Smyth" the "smith" prefix
+        assertEquals(List.of(1L, 2L, 3L), hits.ids().stream().sorted().toList());
+        assertEquals(3, hits.total());
+    }
+
+    @Test
+    void misspelledNamesDoNotWidenTheMatch() {
+        ApplicationSearchIndex.SearchHits hits = searchIndex.search("jane smyht", 0, 10);
+
+        assertTrue(hits.ids().isEmpty(), "misspelling matched " + hits.ids());
+        assertEquals(0, hits.total());
+    }
+
+    @Test
+    void nameMatchesOutrankPurposeMatches() {
+        ApplicationSearchIndex.SearchHits hits = searchIndex.search("jane smith", 0, 10);
+
+        assertEquals(1L, hits.ids().get(0));
+    }
+
+    @Test
+    void prefixTermsMatchLongerTokens() {
+        ApplicationSearchIndex.SearchHits hits = searchIndex.search("smith", 0, 10);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), hits.ids().stream().sorted().toList());
+        assertEquals(4, hits.total());
+    }
+
+    @Test
+    void matchIsAnsweredFromTheTextIndex() {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT COUNT(*) FROM loan_applications la "
+                + "WHERE la.search_vector @@ to_tsquery('simple', 'jane:* & smith:*')", String.class));
+
+        assertFalse(plan.contains("Seq Scan"), plan);
+        assertTrue(plan.contains("idx_app_search_vector"), plan);
+    }
+
+    private void insert(long id, String applicantName, String employerName, String purpose) {
+        jdbcTemplate.update(insertSql("VALUES (?, ?, ?, ?, ?)"), id, "LA-SEARCH-" + id, applicantName, employerName, purpose);
+    }
+
+    private static String insertSql(String rows) {
+        return "INSERT INTO loan_applications (id, version, application_id, applicant_name, email, phone, loan_type, loan_amount, "
+                + "loan_term, purpose, annual_income, monthly_expenses, credit_score, existing_debts, employment_type, "
+                + "employment_duration, status, submitted_at, created_at, employer_name) "
+                + "SELECT id, 0, application_id, applicant_name, 'applicant@example.com', '555', 'PERSONAL', 1000, 36, purpose, "
+                + "60000, 1500, 700, 0, 'SALARIED', 3, 'PENDING', now(), now(), employer_name "
+                + "FROM (" + rows + ") AS seed (id, application_id, applicant_name, employer_name, purpose)";
+    }
+}
@@ -0,0 +1,69 @@
+package com.loanapproval.service;
+
+import com.loanapproval.common.enums.RiskFactorType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.ArgumentsAccessor;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Replays inputs recorded against the BigDecimal scorer the kernel replaced and expects the same
+ * risk score, decision and per-factor value, score and status
+ */
+class RiskScoringKernelTest {
+
+    private static final RiskScoringKernel KERNEL = new RiskScoringKernel(1, 30_00, 25_00, 20_00, 15_00, 10_00, 30_00, 60_00);
+
+    @ParameterizedTest(name = "[{index}] credit={0} income={1} debts={2} amount={3} term={4}")
+    @CsvFileSource(resources = "/risk-scoring/bigdecimal-golden.csv", numLinesToSkip = 1)
+    void matchesBigDecimalScorer(ArgumentsAccessor row) {
+        RiskScoreResult result = KERNEL.score(
+                row.getInteger(0),
+                RiskScoringKernel.toUnscaled(row.get(1, BigDecimal.class)),
+                RiskScoringKernel.toUnscaled(row.get(2, BigDecimal.class)),
+                RiskScoringKernel.toUnscaled(row.get(3, BigDecimal.class)),
+                row.getInteger(4),
+                row.getInteger(5),
+                row.getLong(6),
+                row.getLong(7));
+
+        assertDecimal(row.get(8, BigDecimal.class), result.getRiskScore(), "riskScore");
+        assertEquals(row.getString(9), result.getDecision(), "decision");
+        int column = 10;
+        for (RiskFactorType type : RiskFactorType.values()) {
+            assertDecimal(row.get(column, BigDecimal.class), result.getValue(type), type + " value");
+            assertDecimal(row.get(column + 1, BigDecimal.class), result.getScore(type), type + " score");
+            assertEquals(row.getString(column + 2), result.getStatus(type), type + " status");
+            column += 3;
+        }
+    }
+
+    @Test
+    void rescoreKeepsFactorsOutsideTheSet() {
+        RiskScoreResult previous = KERNEL.score(700, 8_000_000, 200_000, 2_000_000, 48, 3, 1, 1);
+        RiskScoreResult rescored = KERNEL.rescore(previous, EnumSet.of(RiskFactorType.EMPLOYMENT_STABILITY),
+                300, 0, 0, 0, 1, 6, 0, 0);
+
+        assertEquals(previous.getUnscaledScore(RiskFactorType.CREDIT_SCORE), rescored.getUnscaledScore(RiskFactorType.CREDIT_SCORE));
+        assertEquals(previous.getUnscaledScore(RiskFactorType.DEBT_TO_INCOME), rescored.getUnscaledScore(RiskFactorType.DEBT_TO_INCOME));
+        assertEquals(100_00, rescored.getUnscaledScore(RiskFactorType.EMPLOYMENT_STABILITY));
+        assertDecimal(new BigDecimal("86.16"), rescored.getRiskScore(), "riskScore");
+    }
+
+    @Test
+    void divideHalfUpRoundsAwayFromZero() {
+        assertEquals(3, RiskScoringKernel.divideHalfUp(5, 2));
+        assertEquals(-3, RiskScoringKernel.divideHalfUp(-5, 2));
+        assertEquals(2, RiskScoringKernel.divideHalfUp(7, 4));
+        assertEquals(1, RiskScoringKernel.divideHalfUp(5, 4));
+    }
+
+    private static void assertDecimal(BigDecimal expected, BigDecimal actual, String message) {
+        assertEquals(0, expected.compareTo(actual), () -> message + ": expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,108 @@
+package com.loanapproval.service;
+
+import com.loanapproval.repository.ArchivedApplicationRepository;
+import com.loanapproval.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SnowflakeApplicationIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    private final LoanApplicationRepository applicationRepository = mock(LoanApplicationRepository.class);
+    private final ArchivedApplicationRepository archivedApplicationRepository = mock(ArchivedApplicationRepository.class);
+
+    @Test
+    void concurrentIdsAreUniqueAndIncreasePerThread() throws Exception {
+        SnowflakeApplicationIdGenerator generator = generator(7, "prod");
+
+        List<List<String>> issued = assertTimeoutPreemptively(Duration.ofSeconds(20), () -> generate(generator));
+
+        Set<String> unique = new HashSet<>();
+        for (List<String> ids : issued) {
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0,
+                        "IDs out of order: " + ids.get(i - 1) + " then " + ids.get(i));
+            }
+            unique.addAll(ids);
+        }
+        assertEquals(THREADS * IDS_PER_THREAD, unique.size(), "duplicate IDs issued");
+    }
+
+    @Test
+    void restartContinuesAfterStoredIdsAheadOfTheClock() {
+        long inAnHour = (System.currentTimeMillis() + 3_600_000 - SnowflakeApplicationIdGenerator.EPOCH_MILLIS)
+                << (SnowflakeApplicationIdGenerator.NODE_BITS + SnowflakeApplicationIdGenerator.SEQUENCE_BITS);
+        String stored = SnowflakeApplicationIdGenerator.encode(inAnHour | (3L << SnowflakeApplicationIdGenerator.SEQUENCE_BITS) | 5);
+        String archived = SnowflakeApplicationIdGenerator.encode(inAnHour >>> 1);
+        when(applicationRepository.findMaxGeneratedApplicationId()).thenReturn(stored);
+        when(archivedApplicationRepository.findMaxGeneratedApplicationId()).thenReturn(archived);
+
+        SnowflakeApplicationIdGenerator generator = generator(3, "prod");
+        generator.seedFromStoredIds();
+
+        String next = generator.nextId();
+        assertTrue(next.compareTo(stored) > 0, next + " does not follow " + stored);
+    }
+
+    @Test
+    void decodeReversesEncode() {
+        long value = 0x1234_5678_9ABCL;
+        assertEquals(value, SnowflakeApplicationIdGenerator.decode(SnowflakeApplicationIdGenerator.encode(value)));
+        assertThrows(IllegalArgumentException.class, () -> SnowflakeApplicationIdGenerator.decode("LA-1700000000000-abcdef12"));
+    }
+
+    @Test
+    void nodeIdIsRequiredOutsideDev() {
+        assertThrows(IllegalStateException.class, () -> generator(-1, "prod"));
+        assertThrows(IllegalArgumentException.class, () -> generator(SnowflakeApplicationIdGenerator.MAX_NODE_ID + 1, "dev"));
+        generator(-1, "dev").nextId();
+    }
+
+    private SnowflakeApplicationIdGenerator generator(long nodeId, String profile) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(profile);
+        return new SnowflakeApplicationIdGenerator(nodeId, environment, applicationRepository, archivedApplicationRepository);
+    }
+
+    private static List<List<String>> generate(SnowflakeApplicationIdGenerator generator) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<List<String>>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                tasks.add(() -> {
+                    List<String> ids = new ArrayList<>(IDS_PER_THREAD);
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return ids;
+                });
+            }
+            List<List<String>> issued = new ArrayList<>();
+            for (Future<List<String>> future : executor.invokeAll(tasks)) {
+                issued.add(future.get());
+            }
+            return issued;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -91,4 +91,8 @@ export const api = {
     const res = await axios.post(`${API_BASE}/applications/${id}/notes`, data);
     return res.data;
   },
+  getOfficerNotes: async (id: number, page = 0, size = 20) => {
+    const res = await axios.get(`${API_BASE}/applications/${id}/notes`, { params: { page, size } });
+    return res.data;
+  },
 };